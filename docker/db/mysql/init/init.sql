@@ -4,7 +4,14 @@ CREATE TABLE game
     turn     ENUM('WHITE', 'BLACK'),
     name     VARCHAR(10) NOT NULL,
     password VARCHAR(10) NOT NULL,
-    PRIMARY KEY (id)
+    board_state BINARY(32) NULL,
+    version  INT         NOT NULL DEFAULT 0,
+    status   ENUM('PLAYING', 'FINISHED') NOT NULL DEFAULT 'PLAYING',
+    PRIMARY KEY (id),
+    INDEX idx_game_status_id (status, id),
+    -- name LIKE 'prefix%' AND id > ? ORDER BY id uses this index for the prefix range only;
+    -- rows are then sorted by id (filesort), bounded by the number of names matching the prefix.
+    INDEX idx_game_name_id (name, id)
 );
 
 CREATE TABLE board
@@ -17,3 +24,25 @@ CREATE TABLE board
     PRIMARY KEY (game_id, x_axis, y_axis),
     FOREIGN KEY (game_id) REFERENCES game (id) ON DELETE CASCADE
 );
+
+CREATE TABLE move
+(
+    game_id              INT     NOT NULL,
+    ply                  INT     NOT NULL,
+    from_position        CHAR(2) NOT NULL,
+    to_position          CHAR(2) NOT NULL,
+    captured_piece_type  ENUM('PAWN', 'ROOK', 'KNIGHT', 'BISHOP', 'QUEEN', 'KING'),
+    captured_piece_color ENUM('WHITE', 'BLACK'),
+    PRIMARY KEY (game_id, ply),
+    FOREIGN KEY (game_id) REFERENCES game (id) ON DELETE CASCADE
+);
+
+CREATE TABLE snapshot
+(
+    game_id     INT        NOT NULL,
+    ply         INT        NOT NULL,
+    turn        ENUM('WHITE', 'BLACK'),
+    board_state BINARY(32) NOT NULL,
+    PRIMARY KEY (game_id, ply),
+    FOREIGN KEY (game_id) REFERENCES game (id) ON DELETE CASCADE
+);
@@ -0,0 +1,2 @@
+ALTER TABLE game
+    ADD COLUMN board_state BINARY(32) NULL;
@@ -0,0 +1,27 @@
+CREATE TABLE move
+(
+    game_id              INT     NOT NULL,
+    ply                  INT     NOT NULL,
+    from_position        CHAR(2) NOT NULL,
+    to_position          CHAR(2) NOT NULL,
+    captured_piece_type  ENUM('PAWN', 'ROOK', 'KNIGHT', 'BISHOP', 'QUEEN', 'KING'),
+    captured_piece_color ENUM('WHITE', 'BLACK'),
+    PRIMARY KEY (game_id, ply),
+    FOREIGN KEY (game_id) REFERENCES game (id) ON DELETE CASCADE
+);
+
+CREATE TABLE snapshot
+(
+    game_id     INT        NOT NULL,
+    ply         INT        NOT NULL,
+    turn        ENUM('WHITE', 'BLACK'),
+    board_state BINARY(32) NOT NULL,
+    PRIMARY KEY (game_id, ply),
+    FOREIGN KEY (game_id) REFERENCES game (id) ON DELETE CASCADE
+);
+
+-- board_state is filled by running once with chess.board.storage=packed (see add_board_state.sql)
+INSERT INTO snapshot(game_id, ply, turn, board_state)
+SELECT id, version, turn, board_state
+FROM game
+WHERE board_state IS NOT NULL;
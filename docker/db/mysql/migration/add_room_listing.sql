@@ -0,0 +1,6 @@
+ALTER TABLE game
+    ADD COLUMN status ENUM('PLAYING', 'FINISHED') NOT NULL DEFAULT 'PLAYING',
+    ADD INDEX idx_game_status_id (status, id),
+    -- name LIKE 'prefix%' AND id > ? ORDER BY id uses this index for the prefix range only;
+    -- rows are then sorted by id (filesort), bounded by the number of names matching the prefix.
+    ADD INDEX idx_game_name_id (name, id);
@@ -0,0 +1,2 @@
+ALTER TABLE game
+    ADD COLUMN version INT NOT NULL DEFAULT 0;
@@ -1,44 +1,93 @@
 package chess.controller;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import chess.domain.board.Board;
-import chess.domain.game.score.Score;
+import chess.domain.game.ChessGame;
+import chess.domain.game.GameStatus;
 import chess.domain.game.score.ScoreResult;
 import chess.domain.piece.Piece;
 import chess.domain.piece.PieceColor;
 import chess.domain.position.Position;
 import chess.dto.request.CreateRoomDto;
+import chess.dto.request.CreateRoomsDto;
 import chess.dto.request.DeleteRoomDto;
+import chess.dto.request.InquireRoomsDto;
 import chess.dto.request.MovePieceDto;
 import chess.dto.request.UpdatePiecePositionDto;
+import chess.dto.response.CacheStatsDto;
 import chess.dto.response.CommandResultDto;
+import chess.dto.response.EngineMoveDto;
+import chess.dto.response.GameDto;
+import chess.dto.response.MoveDeltaDto;
+import chess.dto.response.PushStatsDto;
 import chess.dto.response.RoomDto;
 import chess.entity.Room;
 import chess.service.ChessService;
+import chess.service.EngineService;
+import chess.service.GameCache;
+import chess.service.GameEventBroker;
+import chess.service.LobbyService;
+import chess.service.MoveConflictException;
+import chess.service.MoveDispatcher;
 
 @RestController
 public class ChessController {
     private static final String PIECE_NAME_FORMAT = "%s_%s";
     private static final String WHITE_PIECE_COLOR_NAME = "WHITE";
     private static final String BLACK_PIECE_COLOR_NAME = "BLACK";
+    private static final String DRAW_NAME = "DRAW";
     private static final String MESSAGE_DELETE_SUCCESSFULLY = "삭제되었습니다!";
+    private static final String DEFAULT_ROOM_LIMIT = "50";
+    private static final String GAME_ETAG_FORMAT = "\"%d-%d\"";
 
     private final ChessService chessService;
+    private final EngineService engineService;
+    private final MoveDispatcher moveDispatcher;
+    private final GameCache gameCache;
+    private final LobbyService lobbyService;
+    private final GameEventBroker gameEventBroker;
+    private final ObjectMapper objectMapper;
 
-    public ChessController(ChessService chessService) {
+    public ChessController(ChessService chessService, EngineService engineService, MoveDispatcher moveDispatcher,
+        GameCache gameCache, LobbyService lobbyService, GameEventBroker gameEventBroker, ObjectMapper objectMapper) {
         this.chessService = chessService;
+        this.engineService = engineService;
+        this.moveDispatcher = moveDispatcher;
+        this.gameCache = gameCache;
+        this.lobbyService = lobbyService;
+        this.gameEventBroker = gameEventBroker;
+        this.objectMapper = objectMapper;
     }
 
     //TODO: Dto로 반환하는 것 고려
@@ -89,26 +138,67 @@ public class ChessController {
     }
 
     private void saveScorePerTeam(ScoreResult scoreResult, Map<String, Double> responseValue) {
-        Score whiteScore = scoreResult.getScoreByPieceColor(PieceColor.WHITE);
-        Score blackScore = scoreResult.getScoreByPieceColor(PieceColor.BLACK);
-        responseValue.put("white", whiteScore.getValue());
-        responseValue.put("black", blackScore.getValue());
+        responseValue.put("white", scoreResult.getValueByPieceColor(PieceColor.WHITE));
+        responseValue.put("black", scoreResult.getValueByPieceColor(PieceColor.BLACK));
     }
 
     @GetMapping("/winner/{id}")
     public Map<String, String> getWinner(@PathVariable Integer id) {
         PieceColor pieceColor = chessService.getWinColor(id);
         Map<String, String> responseValue = new HashMap<>();
+        if (pieceColor == null) {
+            responseValue.put("pieceColor", DRAW_NAME);
+            return responseValue;
+        }
         responseValue.put("pieceColor", getColorNameFromPieceColor(pieceColor));
         return responseValue;
     }
 
+    @GetMapping("/game/{id}")
+    public ResponseEntity<GameDto> getGame(@PathVariable Integer id, WebRequest webRequest,
+        HttpServletResponse response) {
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (webRequest.checkNotModified(toETag(id, chessService.getVersion(id)))) {
+            return null;
+        }
+
+        ChessGame chessGame = chessService.getChessGame(id);
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .eTag(toETag(id, chessGame.getVersion()))
+            .body(GameDto.from(chessGame));
+    }
+
+    @GetMapping(value = "/game/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeGame(@PathVariable Integer id) {
+        return gameEventBroker.subscribe(id);
+    }
+
+    private String toETag(int gameId, int version) {
+        return String.format(GAME_ETAG_FORMAT, gameId, version);
+    }
+
     @PostMapping("/move/{id}")
-    public CommandResultDto movePiece(@RequestBody MovePieceDto movePieceDto, @PathVariable Integer id) {
-        chessService.movePiece(
+    public CompletableFuture<CommandResultDto> movePiece(@RequestBody MovePieceDto movePieceDto,
+        @PathVariable Integer id) {
+        return moveDispatcher.submit(
+                UpdatePiecePositionDto.of(id, movePieceDto.getFromAsPosition(), movePieceDto.getToAsPosition()))
+            .thenApply(ignored -> new CommandResultDto(""));
+    }
+
+    @PostMapping(value = "/move/{id}", params = "delta=true")
+    public CompletableFuture<MoveDeltaDto> movePieceAndGetDelta(@RequestBody MovePieceDto movePieceDto,
+        @PathVariable Integer id) {
+        return moveDispatcher.submit(
             UpdatePiecePositionDto.of(id, movePieceDto.getFromAsPosition(), movePieceDto.getToAsPosition()));
+    }
 
-        return new CommandResultDto("");
+    @PostMapping("/engine/move/{id}")
+    public CompletableFuture<EngineMoveDto> movePieceAgainstEngine(@RequestBody MovePieceDto movePieceDto,
+        @PathVariable Integer id) {
+        return engineService.movePieceAndReply(
+                UpdatePiecePositionDto.of(id, movePieceDto.getFromAsPosition(), movePieceDto.getToAsPosition()))
+            .thenApply(EngineMoveDto::from);
     }
 
     @PostMapping("/room")
@@ -119,14 +209,53 @@ public class ChessController {
         return roomDto;
     }
 
-    @GetMapping("/room")
-    public List<RoomDto> inquireRooms() {
-        List<Room> rooms = chessService.getRooms();
-        return rooms.stream()
-            .map(room -> new RoomDto(room.getId(), room.getName()))
+    @PostMapping("/rooms")
+    public List<RoomDto> createRooms(@RequestBody CreateRoomsDto createRoomsDto) {
+        String gameName = createRoomsDto.getName();
+        List<Integer> ids = chessService.createGamesAndGetIds(gameName, createRoomsDto.getPassword(),
+            createRoomsDto.getCount());
+        return ids.stream()
+            .map(id -> new RoomDto(id, gameName))
             .collect(Collectors.toList());
     }
 
+    @GetMapping("/room")
+    public ResponseEntity<StreamingResponseBody> inquireRooms(@RequestParam(defaultValue = "0") int after,
+        @RequestParam(defaultValue = DEFAULT_ROOM_LIMIT) int limit,
+        @RequestParam(required = false) GameStatus status,
+        @RequestParam(required = false) String name) {
+        InquireRoomsDto inquireRoomsDto = InquireRoomsDto.of(after, limit, status, name);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(outputStream -> writeRooms(inquireRoomsDto, outputStream));
+    }
+
+    private void writeRooms(InquireRoomsDto inquireRoomsDto, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartArray();
+            chessService.inquireRooms(inquireRoomsDto, room -> writeRoom(generator, room));
+            generator.writeEndArray();
+        }
+    }
+
+    private void writeRoom(JsonGenerator generator, Room room) {
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("id", room.getId());
+            generator.writeStringField("name", room.getName());
+            generator.writeStringField("turn", room.getTurn());
+            generator.writeStringField("status", room.getStatus());
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @GetMapping(value = "/room/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeRooms() {
+        return lobbyService.subscribe();
+    }
+
     @DeleteMapping("/room")
     public CommandResultDto deleteRoom(@RequestBody DeleteRoomDto deleteRoomDto) {
         int gameId = deleteRoomDto.getId();
@@ -136,8 +265,24 @@ public class ChessController {
         return new CommandResultDto(MESSAGE_DELETE_SUCCESSFULLY);
     }
 
+    @GetMapping("/stats/cache")
+    public CacheStatsDto getCacheStats() {
+        return CacheStatsDto.from(gameCache);
+    }
+
+    @GetMapping("/stats/push")
+    public PushStatsDto getPushStats() {
+        return PushStatsDto.from(gameEventBroker);
+    }
+
     @ExceptionHandler({IllegalArgumentException.class, IllegalStateException.class})
     public CommandResultDto handle(RuntimeException e) {
         return new CommandResultDto(e.getMessage());
     }
+
+    @ExceptionHandler(MoveConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public CommandResultDto handleConflict(MoveConflictException e) {
+        return new CommandResultDto(e.getMessage());
+    }
 }
@@ -0,0 +1,63 @@
+package chess.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import chess.dto.request.MovePieceDto;
+import chess.dto.response.GameBinaryCodec;
+import chess.dto.response.GameDto;
+import chess.dto.response.MoveDeltaDto;
+
+public class GameBinaryMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public GameBinaryMessageConverter() {
+        super(MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == MovePieceDto.class || clazz == GameDto.class || clazz == MoveDeltaDto.class;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return clazz == MovePieceDto.class && super.canRead(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return clazz != MovePieceDto.class && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    protected Long getContentLength(Object value, MediaType contentType) {
+        if (value instanceof GameDto) {
+            return (long)GameBinaryCodec.GAME_SIZE;
+        }
+        return (long)GameBinaryCodec.MOVE_DELTA_SIZE;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try (InputStream body = inputMessage.getBody()) {
+            return GameBinaryCodec.decodeMove(body.readNBytes(GameBinaryCodec.MOVE_SIZE + 1));
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException(e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        if (value instanceof GameDto) {
+            outputMessage.getBody().write(GameBinaryCodec.encode((GameDto)value));
+            return;
+        }
+        outputMessage.getBody().write(GameBinaryCodec.encode((MoveDeltaDto)value));
+    }
+}
@@ -0,0 +1,89 @@
+package chess.controller;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import chess.service.GameEvent;
+import chess.service.GameEventBroker;
+import chess.service.GameEventSink;
+
+@Component
+public class GameWebSocketHandler extends AbstractWebSocketHandler {
+    private static final String SUBSCRIPTION_ATTRIBUTE = "subscription";
+    private static final String PATH_SEPARATOR = "/";
+    private static final String COMPACT_FORMAT_QUERY = "format=binary";
+
+    private final GameEventBroker gameEventBroker;
+    private final int sendTimeLimitMillis;
+    private final int bufferSizeLimitBytes;
+
+    public GameWebSocketHandler(GameEventBroker gameEventBroker,
+        @Value("${chess.push.send-time-limit-millis:5000}") int sendTimeLimitMillis,
+        @Value("${chess.push.buffer-size-limit-bytes:524288}") int bufferSizeLimitBytes) {
+        this.gameEventBroker = gameEventBroker;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.bufferSizeLimitBytes = bufferSizeLimitBytes;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws IOException {
+        String path = session.getUri().getPath();
+        int gameId;
+        try {
+            gameId = Integer.parseInt(path.substring(path.lastIndexOf(PATH_SEPARATOR) + 1));
+        } catch (NumberFormatException e) {
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        }
+
+        boolean isCompact = COMPACT_FORMAT_QUERY.equals(session.getUri().getQuery());
+        WebSocketSession concurrentSession = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMillis,
+            bufferSizeLimitBytes);
+        GameEventBroker.Subscription subscription = gameEventBroker.subscribe(gameId,
+            new WebSocketEventSink(concurrentSession, isCompact));
+        session.getAttributes().put(SUBSCRIPTION_ATTRIBUTE, subscription);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Object subscription = session.getAttributes().remove(SUBSCRIPTION_ATTRIBUTE);
+        if (subscription != null) {
+            gameEventBroker.unsubscribe((GameEventBroker.Subscription)subscription);
+        }
+    }
+
+    private static class WebSocketEventSink implements GameEventSink {
+        private final WebSocketSession session;
+        private final boolean isCompact;
+
+        private WebSocketEventSink(WebSocketSession session, boolean isCompact) {
+            this.session = session;
+            this.isCompact = isCompact;
+        }
+
+        @Override
+        public int send(GameEvent gameEvent) throws IOException {
+            if (isCompact) {
+                session.sendMessage(new BinaryMessage(gameEvent.getCompactPayload()));
+                return gameEvent.getCompactPayloadLength();
+            }
+            session.sendMessage(new BinaryMessage(gameEvent.getPayload()));
+            return gameEvent.getPayloadLength();
+        }
+
+        @Override
+        public void close() {
+            try {
+                session.close(CloseStatus.GOING_AWAY);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
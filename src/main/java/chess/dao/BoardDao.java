@@ -1,6 +1,9 @@
 package chess.dao;
 
+import java.util.List;
+
 import chess.domain.board.Board;
+import chess.domain.game.ChessGame;
 import chess.dto.request.CreatePieceDto;
 import chess.dto.request.DeletePieceDto;
 import chess.dto.request.UpdatePiecePositionDto;
@@ -8,11 +11,19 @@ import chess.dto.request.UpdatePiecePositionDto;
 public interface BoardDao {
     Board getBoard(int gameId);
 
+    ChessGame getChessGame(int gameId);
+
+    int getVersion(int gameId);
+
     void createPiece(CreatePieceDto createPieceDto);
 
+    void createBoards(List<Integer> gameIds, Board board);
+
     void deletePiece(DeletePieceDto deletePieceDto);
 
     void deletePieces(int gameId);
 
     void updatePiecePosition(UpdatePiecePositionDto updatePiecePositionDto);
+
+    boolean movePiece(UpdatePiecePositionDto updatePiecePositionDto, ChessGame chessGame);
 }
@@ -1,13 +1,20 @@
 package chess.dao;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
 import chess.domain.board.Board;
+import chess.domain.game.ChessGame;
 import chess.domain.piece.Piece;
 import chess.domain.piece.PieceColor;
 import chess.domain.piece.PieceType;
@@ -19,8 +26,54 @@ import chess.dto.request.DeletePieceDto;
 import chess.dto.request.UpdatePiecePositionDto;
 
 @Repository
+@ConditionalOnProperty(name = "chess.board.storage", havingValue = "rows", matchIfMissing = true)
 public class BoardDaoImpl implements BoardDao {
     private static final String TABLE_NAME = "board";
+    private static final String GAME_TABLE_NAME = "game";
+
+    private static final String SELECT_BOARD_QUERY =
+        "SELECT x_axis, y_axis, piece_type, piece_color FROM " + TABLE_NAME + " WHERE game_id = ?";
+    private static final String SELECT_CHESS_GAME_QUERY =
+        "SELECT g.turn, g.version, b.x_axis, b.y_axis, b.piece_type, b.piece_color FROM " + GAME_TABLE_NAME + " g "
+            + "LEFT JOIN " + TABLE_NAME + " b ON b.game_id = g.id WHERE g.id = ?";
+    private static final String SELECT_VERSION_QUERY = "SELECT version FROM " + GAME_TABLE_NAME + " WHERE id = ?";
+    private static final String INSERT_PIECE_QUERY =
+        "INSERT INTO " + TABLE_NAME + "(game_id, x_axis, y_axis, piece_type, piece_color) VALUES(?, ?, ?, ?, ?)";
+    private static final String DELETE_PIECE_QUERY =
+        "DELETE FROM " + TABLE_NAME + " WHERE game_id = ? AND x_axis = ? AND y_axis = ?";
+    private static final String DELETE_PIECES_QUERY = "DELETE FROM " + TABLE_NAME + " WHERE game_id = ?";
+    private static final String UPDATE_PIECE_POSITION_QUERY =
+        "UPDATE " + TABLE_NAME + " SET x_axis = ?, y_axis = ? WHERE x_axis = ? AND y_axis = ? AND game_id = ?";
+    private static final String UPDATE_TURN_QUERY =
+        "UPDATE " + GAME_TABLE_NAME + " SET turn = ?, version = ? WHERE id = ? AND version = ?";
+
+    private static final RowMapper<Position> POSITION_ROW_MAPPER = (resultSet, rowNum) -> Position.of(
+        XAxis.getByValue(resultSet.getString("x_axis")), YAxis.getByValue(resultSet.getString("y_axis")));
+    private static final RowMapper<Piece> PIECE_ROW_MAPPER = (resultSet, rowNum) -> new Piece(
+        PieceType.valueOf(resultSet.getString("piece_type")), PieceColor.valueOf(resultSet.getString("piece_color")));
+    private static final ResultSetExtractor<Board> BOARD_EXTRACTOR = resultSet -> {
+        Map<Position, Piece> board = new HashMap<>();
+        while (resultSet.next()) {
+            putPiece(board, resultSet);
+        }
+        return Board.from(board);
+    };
+    private static final ResultSetExtractor<ChessGame> CHESS_GAME_EXTRACTOR = resultSet -> {
+        Map<Position, Piece> board = new HashMap<>();
+        PieceColor turn = null;
+        int version = 0;
+        while (resultSet.next()) {
+            turn = PieceColor.valueOf(resultSet.getString("turn"));
+            version = resultSet.getInt("version");
+            if (resultSet.getString("piece_type") != null) {
+                putPiece(board, resultSet);
+            }
+        }
+        if (turn == null) {
+            throw new IllegalArgumentException("존재하지 않는 게임입니다.");
+        }
+        return ChessGame.of(Board.from(board), turn, version);
+    };
 
     private final JdbcTemplate jdbcTemplate;
 
@@ -28,69 +81,78 @@ public class BoardDaoImpl implements BoardDao {
         this.jdbcTemplate = jdbcTemplate;
     }
 
+    private static void putPiece(Map<Position, Piece> board, ResultSet resultSet) throws SQLException {
+        board.put(POSITION_ROW_MAPPER.mapRow(resultSet, resultSet.getRow()),
+            PIECE_ROW_MAPPER.mapRow(resultSet, resultSet.getRow()));
+    }
+
     @Override
     public Board getBoard(int gameId) {
-        Map<Position, Piece> board = new HashMap<>();
-
-        for (Position position : getPositionsByGameId(gameId)) {
-            String query = String.format(
-                "SELECT piece_type, piece_color FROM %s WHERE game_id = ? AND x_axis = ? AND y_axis = ?", TABLE_NAME);
-            board.put(position, getPieceByGameIdAndPosition(query, gameId, position));
-        }
-
-        return Board.from(board);
+        return jdbcTemplate.query(SELECT_BOARD_QUERY, BOARD_EXTRACTOR, gameId);
     }
 
-    private List<Position> getPositionsByGameId(int gameId) {
-        String query = String.format("SELECT x_axis, y_axis FROM %s WHERE game_id = ?",
-            TABLE_NAME);
-        List<Position> positions = jdbcTemplate.query(query, (resultSet, rowNum) -> {
-            XAxis xAxis = XAxis.getByValue(resultSet.getString("x_axis"));
-            YAxis yAxis = YAxis.getByValue(resultSet.getString("y_axis"));
-            Position position = Position.of(xAxis, yAxis);
-            return position;
-        }, gameId);
-        return positions;
+    @Override
+    public ChessGame getChessGame(int gameId) {
+        return jdbcTemplate.query(SELECT_CHESS_GAME_QUERY, CHESS_GAME_EXTRACTOR, gameId);
     }
 
-    private Piece getPieceByGameIdAndPosition(String sql, int gameId, Position position) {
-        return jdbcTemplate.queryForObject(sql, (resultSet, rowNum) -> {
-            PieceType pieceType = PieceType.valueOf(resultSet.getString("piece_type"));
-            PieceColor pieceColor = PieceColor.valueOf(resultSet.getString("piece_color"));
-            return new Piece(pieceType, pieceColor);
-        }, gameId, position.getXAxis().getValueAsString(), position.getYAxis().getValueAsString());
+    @Override
+    public int getVersion(int gameId) {
+        return jdbcTemplate.queryForObject(SELECT_VERSION_QUERY, Integer.class, gameId);
     }
 
     @Override
     public void createPiece(CreatePieceDto createPieceDto) {
-        String query = String.format(
-            "INSERT INTO %s(game_id, x_axis, y_axis, piece_type, piece_color) VALUES(?, ?, ?, ?, ?)",
-            TABLE_NAME);
-        jdbcTemplate.update(query, createPieceDto.getGameId(), createPieceDto.getXAxisValueAsString(),
+        jdbcTemplate.update(INSERT_PIECE_QUERY, createPieceDto.getGameId(), createPieceDto.getXAxisValueAsString(),
             createPieceDto.getYAxisValueAsString(), createPieceDto.getPieceTypeName(),
             createPieceDto.getPieceColorName());
     }
 
+    @Override
+    public void createBoards(List<Integer> gameIds, Board board) {
+        Map<Position, Piece> pieces = board.getValue();
+        List<Object[]> batchArgs = new ArrayList<>(gameIds.size() * pieces.size());
+        for (int gameId : gameIds) {
+            for (Map.Entry<Position, Piece> entry : pieces.entrySet()) {
+                CreatePieceDto createPieceDto = CreatePieceDto.of(gameId, entry.getKey(), entry.getValue());
+                batchArgs.add(new Object[] {gameId, createPieceDto.getXAxisValueAsString(),
+                    createPieceDto.getYAxisValueAsString(), createPieceDto.getPieceTypeName(),
+                    createPieceDto.getPieceColorName()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_PIECE_QUERY, batchArgs);
+    }
+
     @Override
     public void deletePiece(DeletePieceDto deletePieceDto) {
-        String query = String.format(
-            "DELETE FROM %s WHERE game_id = ? AND x_axis = ? AND y_axis = ?", TABLE_NAME);
-        jdbcTemplate.update(query, deletePieceDto.getGameId(), deletePieceDto.getXAxisValueAsString(),
+        jdbcTemplate.update(DELETE_PIECE_QUERY, deletePieceDto.getGameId(), deletePieceDto.getXAxisValueAsString(),
             deletePieceDto.getYAxisValueAsString());
     }
 
     @Override
     public void deletePieces(int gameId) {
-        String query = String.format("DELETE FROM %s WHERE game_id = ?", TABLE_NAME);
-        jdbcTemplate.update(query, gameId);
+        jdbcTemplate.update(DELETE_PIECES_QUERY, gameId);
     }
 
     @Override
     public void updatePiecePosition(UpdatePiecePositionDto updatePiecePositionDto) {
-        String query = String.format(
-            "UPDATE %s SET x_axis = ?, y_axis = ? WHERE x_axis = ? AND y_axis = ? AND game_id = ?", TABLE_NAME);
-        jdbcTemplate.update(query, updatePiecePositionDto.getToXAxisValueAsString(),
+        jdbcTemplate.update(UPDATE_PIECE_POSITION_QUERY, updatePiecePositionDto.getToXAxisValueAsString(),
             updatePiecePositionDto.getToYAxisValueAsString(), updatePiecePositionDto.getFromXAxisValueAsString(),
             updatePiecePositionDto.getFromYAxisValueAsString(), updatePiecePositionDto.getGameId());
     }
+
+    @Override
+    public boolean movePiece(UpdatePiecePositionDto updatePiecePositionDto, ChessGame chessGame) {
+        int gameId = updatePiecePositionDto.getGameId();
+        int version = chessGame.getVersion();
+        int updated = jdbcTemplate.update(UPDATE_TURN_QUERY, chessGame.getCurrentTurn().name(), version, gameId,
+            version - 1);
+        if (updated == 0) {
+            return false;
+        }
+
+        deletePiece(DeletePieceDto.of(gameId, updatePiecePositionDto.getTo()));
+        updatePiecePosition(updatePiecePositionDto);
+        return true;
+    }
 }
@@ -1,8 +1,9 @@
 package chess.dao;
 
-import java.util.List;
+import java.util.function.Consumer;
 
 import chess.domain.piece.PieceColor;
+import chess.dto.request.InquireRoomsDto;
 import chess.entity.Room;
 
 public interface GameDao {
@@ -16,7 +17,9 @@ public interface GameDao {
 
     void updateTurnToBlack(int gameId);
 
-    List<Room> inquireAllRooms();
+    void finishGame(int gameId);
+
+    void inquireRooms(InquireRoomsDto inquireRoomsDto, Consumer<Room> roomConsumer);
 
     String getPasswordById(int gameId);
 }
@@ -2,14 +2,20 @@ package chess.dao;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import chess.domain.game.GameStatus;
 import chess.domain.piece.PieceColor;
+import chess.dto.request.InquireRoomsDto;
 import chess.entity.Room;
 
 @Repository
@@ -17,6 +23,11 @@ public class GameDaoImpl implements GameDao {
     private static final String TABLE_NAME = "game";
     private static final String WHITE_TURN = "WHITE";
     private static final String BLACK_TURN = "BLACK";
+    private static final String LIKE_ESCAPE = "\\";
+
+    private static final RowMapper<Room> ROOM_ROW_MAPPER = (resultSet, rowNum) -> new Room(
+        resultSet.getInt("id"), resultSet.getString("turn"), resultSet.getString("name"),
+        resultSet.getString("status"));
 
     private JdbcTemplate jdbcTemplate;
 
@@ -61,16 +72,37 @@ public class GameDaoImpl implements GameDao {
     }
 
     @Override
-    public List<Room> inquireAllRooms() {
-        String query = String.format("SELECT * FROM %s", TABLE_NAME);
-        List<Room> rooms = jdbcTemplate.query(query, (resultSet, rowNum) -> {
-            int id = resultSet.getInt("id");
-            String name = resultSet.getString("name");
-            String turn = resultSet.getString("turn");
-            String password = resultSet.getString("password");
-            return new Room(id, turn, name, password);
+    public void finishGame(int gameId) {
+        String query = String.format("UPDATE %s SET status = ? WHERE id = ?", TABLE_NAME);
+        jdbcTemplate.update(query, GameStatus.FINISHED.name(), gameId);
+    }
+
+    @Override
+    public void inquireRooms(InquireRoomsDto inquireRoomsDto, Consumer<Room> roomConsumer) {
+        StringBuilder query = new StringBuilder(
+            String.format("SELECT id, turn, name, status FROM %s WHERE id > ?", TABLE_NAME));
+        List<Object> args = new ArrayList<>();
+        args.add(inquireRoomsDto.getAfter());
+        inquireRoomsDto.getStatus().ifPresent(status -> {
+            query.append(" AND status = ?");
+            args.add(status.name());
         });
-        return rooms;
+        inquireRoomsDto.getNamePrefix().ifPresent(namePrefix -> {
+            query.append(" AND name LIKE ?");
+            args.add(escapeLike(namePrefix) + "%");
+        });
+        query.append(" ORDER BY id LIMIT ?");
+        args.add(inquireRoomsDto.getLimit());
+
+        RowCallbackHandler rowCallbackHandler = resultSet -> roomConsumer.accept(
+            ROOM_ROW_MAPPER.mapRow(resultSet, resultSet.getRow()));
+        jdbcTemplate.query(query.toString(), rowCallbackHandler, args.toArray());
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace(LIKE_ESCAPE, LIKE_ESCAPE + LIKE_ESCAPE)
+            .replace("%", LIKE_ESCAPE + "%")
+            .replace("_", LIKE_ESCAPE + "_");
     }
 
     @Override
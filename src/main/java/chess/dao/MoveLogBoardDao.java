@@ -0,0 +1,230 @@
+package chess.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import chess.domain.board.Board;
+import chess.domain.board.BoardCodec;
+import chess.domain.board.UndoRecord;
+import chess.domain.game.ChessGame;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceColor;
+import chess.domain.position.Position;
+import chess.dto.request.CreatePieceDto;
+import chess.dto.request.DeletePieceDto;
+import chess.dto.request.UpdatePiecePositionDto;
+
+@Repository
+@ConditionalOnProperty(name = "chess.board.storage", havingValue = "move-log")
+public class MoveLogBoardDao implements BoardDao {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MoveLogBoardDao.class);
+    private static final String GAME_TABLE_NAME = "game";
+    private static final String MOVE_TABLE_NAME = "move";
+    private static final String SNAPSHOT_TABLE_NAME = "snapshot";
+    private static final int LATEST_PLY = Integer.MAX_VALUE;
+
+    private static final String SELECT_SNAPSHOT_QUERY = "SELECT ply, turn, board_state FROM " + SNAPSHOT_TABLE_NAME
+        + " WHERE game_id = ? AND ply <= ? ORDER BY ply DESC LIMIT 1";
+    private static final String SELECT_MOVES_QUERY = "SELECT from_position, to_position FROM " + MOVE_TABLE_NAME
+        + " WHERE game_id = ? AND ply > ? AND ply <= ? ORDER BY ply";
+    private static final String SELECT_LATEST_PLY_QUERY = "SELECT GREATEST("
+        + "(SELECT COALESCE(MAX(ply), 0) FROM " + SNAPSHOT_TABLE_NAME + " WHERE game_id = ?), "
+        + "(SELECT COALESCE(MAX(ply), 0) FROM " + MOVE_TABLE_NAME + " WHERE game_id = ?))";
+    private static final String INSERT_MOVE_QUERY = "INSERT INTO " + MOVE_TABLE_NAME
+        + "(game_id, ply, from_position, to_position, captured_piece_type, captured_piece_color)"
+        + " VALUES(?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_TURN_QUERY = "UPDATE " + GAME_TABLE_NAME + " SET turn = ? WHERE id = ?";
+    private static final String INSERT_SNAPSHOT_QUERY =
+        "INSERT INTO " + SNAPSHOT_TABLE_NAME + "(game_id, ply, turn, board_state) VALUES(?, ?, ?, ?)";
+    private static final String DELETE_SNAPSHOT_QUERY =
+        "DELETE FROM " + SNAPSHOT_TABLE_NAME + " WHERE game_id = ? AND ply = ?";
+    private static final String DELETE_SNAPSHOTS_QUERY = "DELETE FROM " + SNAPSHOT_TABLE_NAME + " WHERE game_id = ?";
+    private static final String DELETE_MOVES_QUERY = "DELETE FROM " + MOVE_TABLE_NAME + " WHERE game_id = ?";
+
+    private static final RowMapper<ChessGame> SNAPSHOT_ROW_MAPPER = (resultSet, rowNum) -> ChessGame.of(
+        BoardCodec.decode(resultSet.getBytes("board_state")), PieceColor.valueOf(resultSet.getString("turn")),
+        resultSet.getInt("ply"));
+    private static final RowMapper<int[]> MOVE_ROW_MAPPER = (resultSet, rowNum) -> new int[] {
+        Position.from(resultSet.getString("from_position")).getIndex(),
+        Position.from(resultSet.getString("to_position")).getIndex()};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int snapshotInterval;
+    private final Executor snapshotExecutor;
+
+    @Autowired
+    public MoveLogBoardDao(JdbcTemplate jdbcTemplate,
+        @Value("${chess.board.snapshot-interval:32}") int snapshotInterval) {
+        this(jdbcTemplate, snapshotInterval, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chess-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    MoveLogBoardDao(JdbcTemplate jdbcTemplate, int snapshotInterval, Executor snapshotExecutor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotInterval = snapshotInterval;
+        this.snapshotExecutor = snapshotExecutor;
+    }
+
+    @Override
+    public Board getBoard(int gameId) {
+        return getChessGame(gameId).getBoard();
+    }
+
+    @Override
+    public ChessGame getChessGame(int gameId) {
+        return getChessGame(gameId, LATEST_PLY);
+    }
+
+    public ChessGame getChessGame(int gameId, int ply) {
+        List<ChessGame> snapshots = jdbcTemplate.query(SELECT_SNAPSHOT_QUERY, SNAPSHOT_ROW_MAPPER, gameId, ply);
+        if (snapshots.isEmpty()) {
+            throw new IllegalArgumentException("존재하지 않는 게임입니다.");
+        }
+
+        ChessGame snapshot = snapshots.get(0);
+        Board board = snapshot.getBoard();
+        PieceColor turn = snapshot.getCurrentTurn();
+        List<int[]> moves = jdbcTemplate.query(SELECT_MOVES_QUERY, MOVE_ROW_MAPPER, gameId, snapshot.getVersion(),
+            ply);
+        for (int[] move : moves) {
+            board.makeMove(move[0], move[1]);
+            turn = turn.opposite();
+        }
+        return ChessGame.of(board, turn, snapshot.getVersion() + moves.size());
+    }
+
+    @Override
+    public int getVersion(int gameId) {
+        return jdbcTemplate.queryForObject(SELECT_LATEST_PLY_QUERY, Integer.class, gameId, gameId);
+    }
+
+    @Override
+    public void createPiece(CreatePieceDto createPieceDto) {
+        ChessGame chessGame = getChessGame(createPieceDto.getGameId());
+        Map<Position, Piece> pieces = chessGame.getBoard().getValue();
+        pieces.put(createPieceDto.getPosition(), createPieceDto.getPiece());
+        replaceSnapshot(createPieceDto.getGameId(), chessGame, Board.from(pieces));
+    }
+
+    @Override
+    public void createBoards(List<Integer> gameIds, Board board) {
+        byte[] boardState = BoardCodec.encode(board);
+        List<Object[]> batchArgs = new ArrayList<>(gameIds.size());
+        for (int gameId : gameIds) {
+            batchArgs.add(new Object[] {gameId, 0, PieceColor.WHITE.name(), boardState});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SNAPSHOT_QUERY, batchArgs);
+    }
+
+    @Override
+    public void deletePiece(DeletePieceDto deletePieceDto) {
+        ChessGame chessGame = getChessGame(deletePieceDto.getGameId());
+        Map<Position, Piece> pieces = chessGame.getBoard().getValue();
+        pieces.remove(deletePieceDto.getPosition());
+        replaceSnapshot(deletePieceDto.getGameId(), chessGame, Board.from(pieces));
+    }
+
+    @Override
+    public void deletePieces(int gameId) {
+        jdbcTemplate.update(DELETE_MOVES_QUERY, gameId);
+        jdbcTemplate.update(DELETE_SNAPSHOTS_QUERY, gameId);
+    }
+
+    @Override
+    public void updatePiecePosition(UpdatePiecePositionDto updatePiecePositionDto) {
+        ChessGame chessGame = getChessGame(updatePiecePositionDto.getGameId());
+        Board board = chessGame.getBoard();
+        board.makeMove(updatePiecePositionDto.getFrom(), updatePiecePositionDto.getTo());
+        replaceSnapshot(updatePiecePositionDto.getGameId(), chessGame, board);
+    }
+
+    private void replaceSnapshot(int gameId, ChessGame chessGame, Board board) {
+        int ply = chessGame.getVersion();
+        jdbcTemplate.update(DELETE_SNAPSHOT_QUERY, gameId, ply);
+        jdbcTemplate.update(INSERT_SNAPSHOT_QUERY, gameId, ply, chessGame.getCurrentTurn().name(),
+            BoardCodec.encode(board));
+    }
+
+    @Override
+    public boolean movePiece(UpdatePiecePositionDto updatePiecePositionDto, ChessGame chessGame) {
+        int gameId = updatePiecePositionDto.getGameId();
+        int ply = chessGame.getVersion();
+        int undo = chessGame.getBoard().getLastUndo();
+        Piece captured = UndoRecord.capturedPiece(undo);
+        try {
+            jdbcTemplate.update(INSERT_MOVE_QUERY, gameId, ply, UndoRecord.fromPosition(undo).toCoordinate(),
+                UndoRecord.toPosition(undo).toCoordinate(),
+                captured == null ? null : captured.getPieceType().name(),
+                captured == null ? null : captured.getPieceColor().name());
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+        jdbcTemplate.update(UPDATE_TURN_QUERY, chessGame.getCurrentTurn().name(), gameId);
+
+        if (ply % snapshotInterval == 0) {
+            scheduleSnapshot(gameId, ply);
+        }
+        return true;
+    }
+
+    private void scheduleSnapshot(int gameId, int ply) {
+        Runnable task = () -> {
+            try {
+                writeSnapshot(gameId, ply);
+            } catch (RuntimeException e) {
+                LOGGER.error("게임 {}의 {}수째 스냅샷을 저장하지 못했습니다.", gameId, ply, e);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            snapshotExecutor.execute(task);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                snapshotExecutor.execute(task);
+            }
+        });
+    }
+
+    void writeSnapshot(int gameId, int ply) {
+        ChessGame chessGame = getChessGame(gameId, ply);
+        if (chessGame.getVersion() != ply) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SNAPSHOT_QUERY, gameId, ply, chessGame.getCurrentTurn().name(),
+                BoardCodec.encode(chessGame.getBoard()));
+        } catch (DuplicateKeyException ignored) {
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (snapshotExecutor instanceof ExecutorService) {
+            ((ExecutorService)snapshotExecutor).shutdown();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package chess.dao;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import chess.domain.board.Board;
+import chess.domain.board.BoardCodec;
+import chess.domain.game.ChessGame;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceColor;
+import chess.domain.position.Position;
+import chess.dto.request.CreatePieceDto;
+import chess.dto.request.DeletePieceDto;
+import chess.dto.request.UpdatePiecePositionDto;
+
+@Repository
+@ConditionalOnProperty(name = "chess.board.storage", havingValue = "packed")
+public class PackedBoardDao implements BoardDao {
+    private static final String TABLE_NAME = "game";
+
+    private static final String SELECT_BOARD_STATE_QUERY = "SELECT board_state FROM " + TABLE_NAME + " WHERE id = ?";
+    private static final String SELECT_BOARD_STATE_FOR_UPDATE_QUERY = SELECT_BOARD_STATE_QUERY + " FOR UPDATE";
+    private static final String SELECT_CHESS_GAME_QUERY =
+        "SELECT turn, version, board_state FROM " + TABLE_NAME + " WHERE id = ?";
+    private static final String SELECT_VERSION_QUERY = "SELECT version FROM " + TABLE_NAME + " WHERE id = ?";
+    private static final String UPDATE_BOARD_STATE_QUERY =
+        "UPDATE " + TABLE_NAME + " SET board_state = ? WHERE id = ?";
+    private static final String UPDATE_CHESS_GAME_QUERY =
+        "UPDATE " + TABLE_NAME + " SET board_state = ?, turn = ?, version = ? WHERE id = ? AND version = ?";
+
+    private static final RowMapper<Board> BOARD_ROW_MAPPER =
+        (resultSet, rowNum) -> toBoard(resultSet.getBytes("board_state"));
+    private static final RowMapper<ChessGame> CHESS_GAME_ROW_MAPPER = (resultSet, rowNum) -> ChessGame.of(
+        toBoard(resultSet.getBytes("board_state")), PieceColor.valueOf(resultSet.getString("turn")),
+        resultSet.getInt("version"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PackedBoardDao(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    private static Board toBoard(byte[] boardState) {
+        if (boardState == null) {
+            return Board.from(new HashMap<>());
+        }
+        return BoardCodec.decode(boardState);
+    }
+
+    @Override
+    public Board getBoard(int gameId) {
+        return jdbcTemplate.queryForObject(SELECT_BOARD_STATE_QUERY, BOARD_ROW_MAPPER, gameId);
+    }
+
+    @Override
+    public ChessGame getChessGame(int gameId) {
+        return jdbcTemplate.queryForObject(SELECT_CHESS_GAME_QUERY, CHESS_GAME_ROW_MAPPER, gameId);
+    }
+
+    @Override
+    public int getVersion(int gameId) {
+        return jdbcTemplate.queryForObject(SELECT_VERSION_QUERY, Integer.class, gameId);
+    }
+
+    @Override
+    @Transactional
+    public void createPiece(CreatePieceDto createPieceDto) {
+        int gameId = createPieceDto.getGameId();
+        Map<Position, Piece> pieces = getBoardForUpdate(gameId).getValue();
+        pieces.put(createPieceDto.getPosition(), createPieceDto.getPiece());
+        updateBoard(gameId, Board.from(pieces));
+    }
+
+    @Override
+    public void createBoards(List<Integer> gameIds, Board board) {
+        byte[] boardState = BoardCodec.encode(board);
+        List<Object[]> batchArgs = gameIds.stream()
+            .map(gameId -> new Object[] {boardState, gameId})
+            .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(UPDATE_BOARD_STATE_QUERY, batchArgs);
+    }
+
+    @Override
+    @Transactional
+    public void deletePiece(DeletePieceDto deletePieceDto) {
+        int gameId = deletePieceDto.getGameId();
+        Map<Position, Piece> pieces = getBoardForUpdate(gameId).getValue();
+        pieces.remove(deletePieceDto.getPosition());
+        updateBoard(gameId, Board.from(pieces));
+    }
+
+    @Override
+    public void deletePieces(int gameId) {
+        jdbcTemplate.update(UPDATE_BOARD_STATE_QUERY, null, gameId);
+    }
+
+    @Override
+    @Transactional
+    public void updatePiecePosition(UpdatePiecePositionDto updatePiecePositionDto) {
+        int gameId = updatePiecePositionDto.getGameId();
+        Board board = getBoardForUpdate(gameId);
+        board.makeMove(updatePiecePositionDto.getFrom(), updatePiecePositionDto.getTo());
+        updateBoard(gameId, board);
+    }
+
+    private Board getBoardForUpdate(int gameId) {
+        return jdbcTemplate.queryForObject(SELECT_BOARD_STATE_FOR_UPDATE_QUERY, BOARD_ROW_MAPPER, gameId);
+    }
+
+    private void updateBoard(int gameId, Board board) {
+        jdbcTemplate.update(UPDATE_BOARD_STATE_QUERY, BoardCodec.encode(board), gameId);
+    }
+
+    @Override
+    public boolean movePiece(UpdatePiecePositionDto updatePiecePositionDto, ChessGame chessGame) {
+        int version = chessGame.getVersion();
+        return jdbcTemplate.update(UPDATE_CHESS_GAME_QUERY, BoardCodec.encode(chessGame.getBoard()),
+            chessGame.getCurrentTurn().name(), version, updatePiecePositionDto.getGameId(), version - 1) == 1;
+    }
+}
@@ -0,0 +1,51 @@
+package chess.dao;
+
+import java.util.List;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import chess.domain.board.BoardCodec;
+
+@Component
+@ConditionalOnProperty(name = "chess.board.storage", havingValue = "packed")
+public class PackedBoardMigration {
+    private static final String EXISTS_NOT_MIGRATED_GAME_QUERY =
+        "SELECT EXISTS (SELECT 1 FROM game WHERE board_state IS NULL)";
+    private static final String SELECT_NOT_MIGRATED_GAME_IDS_QUERY =
+        "SELECT id FROM game WHERE board_state IS NULL";
+    private static final String UPDATE_BOARD_STATE_QUERY =
+        "UPDATE game SET board_state = ? WHERE id = ? AND board_state IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BoardDaoImpl rowBoardDao;
+
+    public PackedBoardMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rowBoardDao = new BoardDaoImpl(jdbcTemplate);
+    }
+
+    @PostConstruct
+    public void migrateOnStartup() {
+        migrate();
+    }
+
+    public int migrate() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_NOT_MIGRATED_GAME_QUERY, Boolean.class))) {
+            return 0;
+        }
+
+        List<Integer> gameIds = jdbcTemplate.query(SELECT_NOT_MIGRATED_GAME_IDS_QUERY,
+            (resultSet, rowNum) -> resultSet.getInt("id"));
+
+        int migrated = 0;
+        for (int gameId : gameIds) {
+            byte[] boardState = BoardCodec.encode(rowBoardDao.getBoard(gameId));
+            migrated += jdbcTemplate.update(UPDATE_BOARD_STATE_QUERY, boardState, gameId);
+        }
+        return migrated;
+    }
+}
@@ -0,0 +1,243 @@
+package chess.dao;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+public class WriteAheadLog implements AutoCloseable {
+    public static final int ENTRY_BYTES = 16;
+
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final String SEGMENT_NAME_FORMAT = "%020d" + SEGMENT_SUFFIX;
+    private static final int CHECKSUM_OFFSET = 12;
+    private static final int SQUARE_BITS = 6;
+    private static final int SQUARE_MASK = (1 << SQUARE_BITS) - 1;
+    private static final int REVERT_MOVE = 1 << SQUARE_BITS * 2;
+
+    private final Path directory;
+    private final long entriesPerSegment;
+    private final TreeMap<Long, MappedByteBuffer> segments = new TreeMap<>();
+    private final Object syncLock = new Object();
+    private long firstCount;
+    private long appendedCount;
+    private volatile long durableCount;
+
+    private WriteAheadLog(Path directory, int segmentBytes) {
+        this.directory = directory;
+        this.entriesPerSegment = segmentBytes / ENTRY_BYTES;
+    }
+
+    public static WriteAheadLog open(Path directory, int segmentBytes) {
+        if (segmentBytes < ENTRY_BYTES) {
+            throw new IllegalArgumentException("WAL 세그먼트는 항목 하나보다 커야 합니다.");
+        }
+
+        WriteAheadLog writeAheadLog = new WriteAheadLog(directory, segmentBytes);
+        try {
+            Files.createDirectories(directory);
+            writeAheadLog.recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writeAheadLog;
+    }
+
+    private void recover() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>)files.filter(this::isSegment)::iterator) {
+                long segment = Long.parseLong(file.getFileName().toString().replace(SEGMENT_SUFFIX, ""));
+                segments.put(segment, map(file));
+            }
+        }
+        if (segments.isEmpty()) {
+            return;
+        }
+
+        firstCount = segments.firstKey() * entriesPerSegment;
+        long segmentStart = segments.lastKey() * entriesPerSegment;
+        MappedByteBuffer last = segments.lastEntry().getValue();
+        long count = segmentStart;
+        while (count < segmentStart + entriesPerSegment && isValid(last, offsetOf(count))) {
+            count++;
+        }
+        appendedCount = count;
+        durableCount = count;
+    }
+
+    private boolean isSegment(Path file) {
+        return file.getFileName().toString().endsWith(SEGMENT_SUFFIX);
+    }
+
+    private MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, entriesPerSegment * ENTRY_BYTES);
+        }
+    }
+
+    private int offsetOf(long count) {
+        return (int)(count % entriesPerSegment) * ENTRY_BYTES;
+    }
+
+    private static boolean isValid(MappedByteBuffer buffer, int offset) {
+        return buffer.getInt(offset + CHECKSUM_OFFSET) == checksum(buffer, offset);
+    }
+
+    private static int checksum(MappedByteBuffer buffer, int offset) {
+        CRC32 crc32 = new CRC32();
+        for (int i = 0; i < CHECKSUM_OFFSET; i++) {
+            crc32.update(buffer.get(offset + i));
+        }
+        return (int)crc32.getValue();
+    }
+
+    public long append(int gameId, int version, int from, int to) {
+        return append(gameId, version, from << SQUARE_BITS | to);
+    }
+
+    public long appendRevert(int gameId, int version) {
+        return append(gameId, version, REVERT_MOVE);
+    }
+
+    private synchronized long append(int gameId, int version, int move) {
+        long segment = appendedCount / entriesPerSegment;
+        MappedByteBuffer buffer = segments.get(segment);
+        if (buffer == null) {
+            buffer = createSegment(segment);
+        }
+
+        int offset = offsetOf(appendedCount);
+        buffer.putInt(offset, gameId);
+        buffer.putInt(offset + Integer.BYTES, version);
+        buffer.putInt(offset + Integer.BYTES * 2, move);
+        buffer.putInt(offset + CHECKSUM_OFFSET, checksum(buffer, offset));
+        return ++appendedCount;
+    }
+
+    private MappedByteBuffer createSegment(long segment) {
+        try {
+            MappedByteBuffer buffer = map(directory.resolve(String.format(SEGMENT_NAME_FORMAT, segment)));
+            segments.put(segment, buffer);
+            return buffer;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void awaitDurable(long count) {
+        if (durableCount >= count) {
+            return;
+        }
+
+        synchronized (syncLock) {
+            if (durableCount >= count) {
+                return;
+            }
+
+            long target;
+            List<MappedByteBuffer> unsynced;
+            synchronized (this) {
+                target = appendedCount;
+                unsynced = new ArrayList<>(
+                    segments.subMap(durableCount / entriesPerSegment, true, (target - 1) / entriesPerSegment, true)
+                        .values());
+            }
+            unsynced.forEach(MappedByteBuffer::force);
+            durableCount = target;
+        }
+    }
+
+    public synchronized List<Entry> read(long fromCount, long toCount) {
+        List<Entry> entries = new ArrayList<>((int)Math.max(0, toCount - fromCount));
+        for (long count = Math.max(fromCount, firstCount); count < toCount; count++) {
+            MappedByteBuffer buffer = segments.get(count / entriesPerSegment);
+            int offset = offsetOf(count);
+            int move = buffer.getInt(offset + Integer.BYTES * 2);
+            entries.add(new Entry(count + 1, buffer.getInt(offset), buffer.getInt(offset + Integer.BYTES),
+                move >>> SQUARE_BITS & SQUARE_MASK, move & SQUARE_MASK, move == REVERT_MOVE));
+        }
+        return entries;
+    }
+
+    public synchronized void truncate(long flushedCount) {
+        long current = appendedCount / entriesPerSegment;
+        for (Map.Entry<Long, MappedByteBuffer> segment : new ArrayList<>(segments.entrySet())) {
+            long segmentEnd = (segment.getKey() + 1) * entriesPerSegment;
+            if (segmentEnd > flushedCount || segment.getKey() >= current) {
+                return;
+            }
+            segments.remove(segment.getKey());
+            firstCount = segmentEnd;
+            try {
+                Files.deleteIfExists(directory.resolve(String.format(SEGMENT_NAME_FORMAT, segment.getKey())));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public synchronized long getAppendedCount() {
+        return appendedCount;
+    }
+
+    public long getDurableCount() {
+        return durableCount;
+    }
+
+    @Override
+    public void close() {
+        awaitDurable(getAppendedCount());
+    }
+
+    public static class Entry {
+        private final long count;
+        private final int gameId;
+        private final int version;
+        private final int from;
+        private final int to;
+        private final boolean revert;
+
+        private Entry(long count, int gameId, int version, int from, int to, boolean revert) {
+            this.count = count;
+            this.gameId = gameId;
+            this.version = version;
+            this.from = from;
+            this.to = to;
+            this.revert = revert;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public int getGameId() {
+            return gameId;
+        }
+
+        public int getVersion() {
+            return version;
+        }
+
+        public int getFrom() {
+            return from;
+        }
+
+        public int getTo() {
+            return to;
+        }
+
+        public boolean isRevert() {
+            return revert;
+        }
+    }
+}
@@ -0,0 +1,488 @@
+package chess.dao;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import chess.domain.board.Board;
+import chess.domain.board.BoardCodec;
+import chess.domain.game.ChessGame;
+import chess.domain.piece.PieceColor;
+import chess.domain.position.Position;
+import chess.dto.request.CreatePieceDto;
+import chess.dto.request.DeletePieceDto;
+import chess.dto.request.UpdatePiecePositionDto;
+
+public class WriteBehindBoardDao implements BoardDao, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindBoardDao.class);
+    private static final String CHECKPOINT_FILE_NAME = "checkpoint";
+    private static final String SNAPSHOT_FILE_NAME = "games.snapshot";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final int SNAPSHOT_MAGIC = 0x43485353;
+    private static final String FLUSHER_THREAD_NAME = "chess-wal-flusher";
+
+    private final BoardDao delegate;
+    private final WriteAheadLog writeAheadLog;
+    private final TransactionTemplate transactionTemplate;
+    private final Path directory;
+    private final int maxFlushSize;
+    private final Map<Integer, LiveGame> liveGames = new ConcurrentHashMap<>();
+    private final Map<Integer, PendingMoves> reservations = new ConcurrentHashMap<>();
+    private final NavigableSet<Long> uncommittedCounts = new ConcurrentSkipListSet<>();
+    private final Set<Long> revertedCounts = ConcurrentHashMap.newKeySet();
+    private final Object appendLock = new Object();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, FLUSHER_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile long flushedCount;
+
+    public WriteBehindBoardDao(BoardDao delegate, WriteAheadLog writeAheadLog,
+        TransactionTemplate transactionTemplate, Path directory, int maxFlushSize) {
+        this.delegate = delegate;
+        this.writeAheadLog = writeAheadLog;
+        this.transactionTemplate = transactionTemplate;
+        this.directory = directory;
+        this.maxFlushSize = maxFlushSize;
+    }
+
+    public void recover() {
+        flushedCount = readCheckpoint();
+        restoreSnapshot();
+        List<WriteAheadLog.Entry> entries = writeAheadLog.read(flushedCount, writeAheadLog.getAppendedCount());
+        collectRevertedCounts(entries);
+        for (WriteAheadLog.Entry entry : entries) {
+            if (!isReverted(entry)) {
+                replay(entry);
+            }
+        }
+    }
+
+    private void collectRevertedCounts(List<WriteAheadLog.Entry> entries) {
+        Map<Long, Long> lastCounts = new HashMap<>();
+        for (WriteAheadLog.Entry entry : entries) {
+            long key = (long)entry.getGameId() << Integer.SIZE | entry.getVersion() & 0xFFFFFFFFL;
+            if (!entry.isRevert()) {
+                lastCounts.put(key, entry.getCount());
+                continue;
+            }
+            Long revertedCount = lastCounts.remove(key);
+            if (revertedCount != null) {
+                revertedCounts.add(revertedCount);
+            }
+        }
+    }
+
+    private boolean isReverted(WriteAheadLog.Entry entry) {
+        return entry.isRevert() || revertedCounts.contains(entry.getCount());
+    }
+
+    public void start(long flushIntervalMillis) {
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    private void flushQuietly() {
+        try {
+            int flushed = flush();
+            while (flushed > 0) {
+                flushed = flush();
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("WAL 을 DB에 반영하지 못했습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    private long readCheckpoint() {
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE_NAME);
+        if (!Files.exists(checkpoint)) {
+            return 0;
+        }
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(checkpoint))) {
+            return input.readLong();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void restoreSnapshot() {
+        Path snapshot = directory.resolve(SNAPSHOT_FILE_NAME);
+        if (!Files.exists(snapshot)) {
+            return;
+        }
+
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(snapshot))) {
+            if (input.readInt() != SNAPSHOT_MAGIC) {
+                throw new IllegalStateException("잘못된 스냅샷 파일입니다.");
+            }
+            long count = input.readLong();
+            int gameCount = input.readInt();
+            byte[] boardState = new byte[BoardCodec.ENCODED_SIZE];
+            for (int i = 0; i < gameCount; i++) {
+                int gameId = input.readInt();
+                int version = input.readInt();
+                PieceColor turn = PieceColor.values()[input.readByte()];
+                input.readFully(boardState);
+                liveGames.put(gameId, new LiveGame(ChessGame.of(BoardCodec.decode(boardState), turn, version), count));
+            }
+            Files.delete(snapshot);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void replay(WriteAheadLog.Entry entry) {
+        int gameId = entry.getGameId();
+        LiveGame liveGame = liveGames.get(gameId);
+        ChessGame chessGame = liveGame == null ? loadFromDelegate(gameId) : liveGame.chessGame;
+        if (chessGame == null || entry.getVersion() != chessGame.getVersion() + 1) {
+            return;
+        }
+
+        chessGame.movePiece(Position.ofIndex(entry.getFrom()), Position.ofIndex(entry.getTo()));
+        liveGames.put(gameId, new LiveGame(chessGame, entry.getCount()));
+    }
+
+    private ChessGame loadFromDelegate(int gameId) {
+        try {
+            return delegate.getChessGame(gameId);
+        } catch (IllegalArgumentException | EmptyResultDataAccessException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public Board getBoard(int gameId) {
+        return getChessGame(gameId).getBoard();
+    }
+
+    @Override
+    public ChessGame getChessGame(int gameId) {
+        LiveGame liveGame = liveGames.get(gameId);
+        if (liveGame == null) {
+            return delegate.getChessGame(gameId);
+        }
+        return liveGame.chessGame.copy();
+    }
+
+    @Override
+    public int getVersion(int gameId) {
+        LiveGame liveGame = liveGames.get(gameId);
+        if (liveGame == null) {
+            return delegate.getVersion(gameId);
+        }
+        return liveGame.chessGame.getVersion();
+    }
+
+    @Override
+    public void createPiece(CreatePieceDto createPieceDto) {
+        delegate.createPiece(createPieceDto);
+    }
+
+    @Override
+    public void createBoards(List<Integer> gameIds, Board board) {
+        delegate.createBoards(gameIds, board);
+    }
+
+    @Override
+    public void deletePiece(DeletePieceDto deletePieceDto) {
+        delegate.deletePiece(deletePieceDto);
+    }
+
+    @Override
+    public void deletePieces(int gameId) {
+        liveGames.remove(gameId);
+        delegate.deletePieces(gameId);
+    }
+
+    @Override
+    public void updatePiecePosition(UpdatePiecePositionDto updatePiecePositionDto) {
+        delegate.updatePiecePosition(updatePiecePositionDto);
+    }
+
+    @Override
+    public boolean movePiece(UpdatePiecePositionDto updatePiecePositionDto, ChessGame chessGame) {
+        int gameId = updatePiecePositionDto.getGameId();
+        PendingMoves pendingMoves = currentPendingMoves();
+        PendingMoves owner = reservations.putIfAbsent(gameId, pendingMoves);
+        if (owner != null && owner != pendingMoves) {
+            return false;
+        }
+
+        ChessGame base = pendingMoves.lastGame(gameId);
+        int baseVersion = base == null ? delegate.getVersion(gameId) : base.getVersion();
+        if (baseVersion + 1 != chessGame.getVersion()) {
+            if (owner == null) {
+                reservations.remove(gameId, pendingMoves);
+            }
+            return false;
+        }
+
+        pendingMoves.add(new PendingMove(updatePiecePositionDto, chessGame.copy()));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingMoves.beforeCommit(false);
+            pendingMoves.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        return true;
+    }
+
+    private PendingMoves currentPendingMoves() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new PendingMoves();
+        }
+
+        PendingMoves pendingMoves = (PendingMoves)TransactionSynchronizationManager.getResource(this);
+        if (pendingMoves == null) {
+            pendingMoves = new PendingMoves();
+            TransactionSynchronizationManager.bindResource(this, pendingMoves);
+            TransactionSynchronizationManager.registerSynchronization(pendingMoves);
+        }
+        return pendingMoves;
+    }
+
+    public int flush() {
+        long fromCount = flushedCount;
+        long toCount;
+        synchronized (appendLock) {
+            toCount = Math.min(writeAheadLog.getDurableCount(), fromCount + maxFlushSize);
+            Long uncommittedCount = uncommittedCounts.ceiling(0L);
+            if (uncommittedCount != null) {
+                toCount = Math.min(toCount, uncommittedCount - 1);
+            }
+        }
+        if (fromCount >= toCount) {
+            return 0;
+        }
+
+        Map<Integer, List<WriteAheadLog.Entry>> entriesByGame = new LinkedHashMap<>();
+        for (WriteAheadLog.Entry entry : writeAheadLog.read(fromCount, toCount)) {
+            if (!isReverted(entry)) {
+                entriesByGame.computeIfAbsent(entry.getGameId(), gameId -> new ArrayList<>()).add(entry);
+            }
+        }
+        long unflushedCount = transactionTemplate.execute(status -> flushGames(entriesByGame));
+        long flushedToCount = Math.min(toCount, unflushedCount - 1);
+        if (flushedToCount <= fromCount) {
+            return 0;
+        }
+
+        flushedCount = flushedToCount;
+        writeCheckpoint(flushedToCount);
+        writeAheadLog.truncate(flushedToCount);
+        revertedCounts.removeIf(count -> count <= flushedToCount);
+        for (int gameId : entriesByGame.keySet()) {
+            liveGames.computeIfPresent(gameId, (id, liveGame) -> liveGame.count <= flushedToCount ? null : liveGame);
+        }
+        return (int)(flushedToCount - fromCount);
+    }
+
+    private long flushGames(Map<Integer, List<WriteAheadLog.Entry>> entriesByGame) {
+        long unflushedCount = Long.MAX_VALUE;
+        for (Map.Entry<Integer, List<WriteAheadLog.Entry>> entries : entriesByGame.entrySet()) {
+            unflushedCount = Math.min(unflushedCount, flushGame(entries.getKey(), entries.getValue()));
+        }
+        return unflushedCount;
+    }
+
+    private long flushGame(int gameId, List<WriteAheadLog.Entry> entries) {
+        ChessGame chessGame = loadFromDelegate(gameId);
+        if (chessGame == null) {
+            return Long.MAX_VALUE;
+        }
+
+        for (WriteAheadLog.Entry entry : entries) {
+            if (entry.getVersion() <= chessGame.getVersion()) {
+                continue;
+            }
+            UpdatePiecePositionDto updatePiecePositionDto = UpdatePiecePositionDto.of(gameId,
+                Position.ofIndex(entry.getFrom()), Position.ofIndex(entry.getTo()));
+            try {
+                chessGame.movePiece(updatePiecePositionDto.getFrom(), updatePiecePositionDto.getTo());
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                LOGGER.error("게임 {}의 {}번째 수를 DB에 반영하지 못했습니다: {}", gameId, entry.getVersion(), e.getMessage());
+                return entry.getCount();
+            }
+            if (!delegate.movePiece(updatePiecePositionDto, chessGame)) {
+                LOGGER.error("게임 {}의 DB 버전이 WAL과 다릅니다.", gameId);
+                return entry.getCount();
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private void writeCheckpoint(long count) {
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE_NAME);
+        Path temporary = directory.resolve(CHECKPOINT_FILE_NAME + TEMPORARY_SUFFIX);
+        try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(temporary))) {
+            output.writeLong(count);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        moveAtomically(temporary, checkpoint);
+    }
+
+    public void dumpSnapshot() {
+        Map<Integer, LiveGame> games = new LinkedHashMap<>(liveGames);
+        Path snapshot = directory.resolve(SNAPSHOT_FILE_NAME);
+        Path temporary = directory.resolve(SNAPSHOT_FILE_NAME + TEMPORARY_SUFFIX);
+        try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(temporary))) {
+            output.writeInt(SNAPSHOT_MAGIC);
+            output.writeLong(writeAheadLog.getAppendedCount());
+            output.writeInt(games.size());
+            for (Map.Entry<Integer, LiveGame> game : games.entrySet()) {
+                ChessGame chessGame = game.getValue().chessGame;
+                output.writeInt(game.getKey());
+                output.writeInt(chessGame.getVersion());
+                output.writeByte(chessGame.getCurrentTurn().ordinal());
+                output.write(BoardCodec.encode(chessGame.getBoard()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        moveAtomically(temporary, snapshot);
+    }
+
+    private static void moveAtomically(Path source, Path target) {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int getLiveGameCount() {
+        return liveGames.size();
+    }
+
+    public long getFlushedCount() {
+        return flushedCount;
+    }
+
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeAheadLog.close();
+        dumpSnapshot();
+    }
+
+    private class PendingMoves implements TransactionSynchronization {
+        private final List<PendingMove> moves = new ArrayList<>();
+        private boolean published;
+
+        private ChessGame lastGame(int gameId) {
+            for (int i = moves.size() - 1; i >= 0; i--) {
+                if (moves.get(i).gameId == gameId) {
+                    return moves.get(i).chessGame;
+                }
+            }
+            LiveGame liveGame = liveGames.get(gameId);
+            return liveGame == null ? null : liveGame.chessGame;
+        }
+
+        private void add(PendingMove move) {
+            moves.add(move);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (moves.isEmpty()) {
+                return;
+            }
+
+            synchronized (appendLock) {
+                published = true;
+                for (PendingMove move : moves) {
+                    liveGames.compute(move.gameId, (gameId, liveGame) -> {
+                        move.previous = liveGame;
+                        move.count = writeAheadLog.append(gameId, move.chessGame.getVersion(), move.from, move.to);
+                        uncommittedCounts.add(move.count);
+                        return new LiveGame(move.chessGame, move.count);
+                    });
+                }
+            }
+            writeAheadLog.awaitDurable(moves.get(moves.size() - 1).count);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(WriteBehindBoardDao.this);
+            if (published && status == STATUS_ROLLED_BACK) {
+                revert();
+            }
+            for (PendingMove move : moves) {
+                uncommittedCounts.remove(move.count);
+                reservations.remove(move.gameId, this);
+            }
+        }
+
+        private void revert() {
+            long revertCount = 0;
+            for (int i = moves.size() - 1; i >= 0; i--) {
+                PendingMove move = moves.get(i);
+                if (move.count == 0) {
+                    continue;
+                }
+                liveGames.computeIfPresent(move.gameId,
+                    (gameId, liveGame) -> liveGame.count == move.count ? move.previous : liveGame);
+                revertCount = writeAheadLog.appendRevert(move.gameId, move.chessGame.getVersion());
+                revertedCounts.add(move.count);
+            }
+            writeAheadLog.awaitDurable(revertCount);
+        }
+    }
+
+    private static class PendingMove {
+        private final int gameId;
+        private final int from;
+        private final int to;
+        private final ChessGame chessGame;
+        private LiveGame previous;
+        private long count;
+
+        private PendingMove(UpdatePiecePositionDto updatePiecePositionDto, ChessGame chessGame) {
+            this.gameId = updatePiecePositionDto.getGameId();
+            this.from = updatePiecePositionDto.getFrom().getIndex();
+            this.to = updatePiecePositionDto.getTo().getIndex();
+            this.chessGame = chessGame;
+        }
+    }
+
+    private static class LiveGame {
+        private final ChessGame chessGame;
+        private final long count;
+
+        private LiveGame(ChessGame chessGame, long count) {
+            this.chessGame = chessGame;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package chess.dao;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@ConditionalOnProperty(name = "chess.board.write-behind", havingValue = "true")
+public class WriteBehindConfiguration {
+
+    @Bean
+    @Primary
+    public WriteBehindBoardDao writeBehindBoardDao(BoardDao boardDao, PlatformTransactionManager transactionManager,
+        @Value("${chess.wal.directory:wal}") String directory,
+        @Value("${chess.wal.segment-bytes:16777216}") int segmentBytes,
+        @Value("${chess.wal.flush-interval-millis:200}") long flushIntervalMillis,
+        @Value("${chess.wal.max-flush-size:4096}") int maxFlushSize) {
+        Path walDirectory = Path.of(directory);
+        WriteBehindBoardDao writeBehindBoardDao = new WriteBehindBoardDao(boardDao,
+            WriteAheadLog.open(walDirectory, segmentBytes), new TransactionTemplate(transactionManager), walDirectory,
+            maxFlushSize);
+        writeBehindBoardDao.recover();
+        writeBehindBoardDao.start(flushIntervalMillis);
+        return writeBehindBoardDao;
+    }
+}
@@ -0,0 +1,245 @@
+package chess.domain.board;
+
+import java.util.Arrays;
+
+import chess.domain.piece.MoveTable;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceColor;
+import chess.domain.piece.PieceType;
+import chess.domain.position.Position;
+
+public class BitBoard {
+    public static final int SQUARE_COUNT = Position.SIZE;
+    public static final int EMPTY = -1;
+
+    private static final int LINE_SIZE = 8;
+    private static final int DUPLICATED_PAWN_COUNT = 2;
+    private static final int COLOR_COUNT = PieceColor.values().length;
+    private static final int PIECE_TYPE_COUNT = PieceType.values().length;
+    private static final int PIECE_KIND_COUNT = PIECE_TYPE_COUNT * COLOR_COUNT;
+    private static final Piece[] PIECES = new Piece[PIECE_KIND_COUNT];
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+    private static final double[] SCORES = new double[PIECE_KIND_COUNT];
+    private static final long[] FILE_MASKS = new long[LINE_SIZE];
+    private static final long[][] BETWEEN = new long[SQUARE_COUNT][SQUARE_COUNT];
+
+    static {
+        for (PieceColor pieceColor : PieceColor.values()) {
+            for (PieceType pieceType : PieceType.values()) {
+                PIECES[kindOf(pieceType, pieceColor)] = new Piece(pieceType, pieceColor);
+                SCORES[kindOf(pieceType, pieceColor)] = pieceType.getScore().getValue();
+            }
+        }
+
+        for (int square = 0; square < SQUARE_COUNT; square++) {
+            FILE_MASKS[fileOf(square)] |= 1L << square;
+        }
+
+        for (int from = 0; from < SQUARE_COUNT; from++) {
+            for (int to = 0; to < SQUARE_COUNT; to++) {
+                BETWEEN[from][to] = calculateBetween(from, to);
+            }
+        }
+    }
+
+    private final long[] pieces = new long[PIECE_KIND_COUNT];
+    private final long[] colors = new long[COLOR_COUNT];
+    private final double[] scores = new double[COLOR_COUNT];
+    private final int[] pawnCounts = new int[COLOR_COUNT * LINE_SIZE];
+    private final int[] duplicatedPawnCounts = new int[COLOR_COUNT];
+    private final int[] kingSquares = new int[COLOR_COUNT];
+    private long occupied;
+    private long hash;
+
+    public BitBoard() {
+        Arrays.fill(kingSquares, EMPTY);
+    }
+
+    public static int fileOf(int square) {
+        return square % LINE_SIZE;
+    }
+
+    public static int rankOf(int square) {
+        return square / LINE_SIZE;
+    }
+
+    public static int kindOf(PieceType pieceType, PieceColor pieceColor) {
+        return pieceColor.ordinal() * PIECE_TYPE_COUNT + pieceType.ordinal();
+    }
+
+    public static int kindOf(Piece piece) {
+        return kindOf(piece.getPieceType(), piece.getPieceColor());
+    }
+
+    public static Piece pieceOf(int kind) {
+        return PIECES[kind];
+    }
+
+    public static long between(int from, int to) {
+        return BETWEEN[from][to];
+    }
+
+    private static long calculateBetween(int from, int to) {
+        int deltaFile = fileOf(to) - fileOf(from);
+        int deltaRank = rankOf(to) - rankOf(from);
+        boolean isAligned = deltaFile == 0 || deltaRank == 0 || Math.abs(deltaFile) == Math.abs(deltaRank);
+
+        if (from == to || !isAligned) {
+            return 0L;
+        }
+
+        int step = Integer.signum(deltaRank) * LINE_SIZE + Integer.signum(deltaFile);
+        long mask = 0L;
+        for (int square = from + step; square != to; square += step) {
+            mask |= 1L << square;
+        }
+        return mask;
+    }
+
+    public void put(int square, int kind) {
+        long bit = 1L << square;
+        int color = kind / PIECE_TYPE_COUNT;
+        pieces[kind] |= bit;
+        colors[color] |= bit;
+        occupied |= bit;
+        hash ^= Zobrist.pieceKey(kind, square);
+        scores[color] += SCORES[kind];
+        if (isPawn(kind)) {
+            updatePawnCount(color, fileOf(square), 1);
+        }
+        if (isKing(kind)) {
+            kingSquares[color] = square;
+        }
+    }
+
+    public int remove(int square) {
+        int kind = kindAt(square);
+        if (kind == EMPTY) {
+            return EMPTY;
+        }
+
+        long bit = ~(1L << square);
+        int color = kind / PIECE_TYPE_COUNT;
+        pieces[kind] &= bit;
+        colors[color] &= bit;
+        occupied &= bit;
+        hash ^= Zobrist.pieceKey(kind, square);
+        scores[color] -= SCORES[kind];
+        if (isPawn(kind)) {
+            updatePawnCount(color, fileOf(square), -1);
+        }
+        if (isKing(kind)) {
+            kingSquares[color] = pieces[kind] == 0 ? EMPTY : Long.numberOfTrailingZeros(pieces[kind]);
+        }
+        return kind;
+    }
+
+    private static boolean isPawn(int kind) {
+        return kind % PIECE_TYPE_COUNT == PieceType.PAWN.ordinal();
+    }
+
+    private static boolean isKing(int kind) {
+        return kind % PIECE_TYPE_COUNT == PieceType.KING.ordinal();
+    }
+
+    private void updatePawnCount(int color, int file, int delta) {
+        int index = color * LINE_SIZE + file;
+        int before = pawnCounts[index];
+        int after = before + delta;
+        pawnCounts[index] = after;
+        duplicatedPawnCounts[color] += duplicatedPawnCountOf(after) - duplicatedPawnCountOf(before);
+    }
+
+    private static int duplicatedPawnCountOf(int pawnCount) {
+        if (pawnCount >= DUPLICATED_PAWN_COUNT) {
+            return pawnCount;
+        }
+        return 0;
+    }
+
+    public int kindAt(int square) {
+        long bit = 1L << square;
+        if ((occupied & bit) == 0) {
+            return EMPTY;
+        }
+
+        int start = (colors[0] & bit) != 0 ? 0 : PIECE_TYPE_COUNT;
+        for (int kind = start; kind < start + PIECE_TYPE_COUNT; kind++) {
+            if ((pieces[kind] & bit) != 0) {
+                return kind;
+            }
+        }
+        return EMPTY;
+    }
+
+    public boolean isEmpty(int square) {
+        return (occupied & 1L << square) == 0;
+    }
+
+    public boolean hasAnyPiece(long mask) {
+        return (occupied & mask) != 0;
+    }
+
+    public long getPieces(PieceType pieceType, PieceColor pieceColor) {
+        return pieces[kindOf(pieceType, pieceColor)];
+    }
+
+    public long getPieces(PieceColor pieceColor) {
+        return colors[pieceColor.ordinal()];
+    }
+
+    public long getOccupied() {
+        return occupied;
+    }
+
+    public long getHash() {
+        return hash;
+    }
+
+    public int countPieces(PieceType pieceType, PieceColor pieceColor, int file) {
+        return Long.bitCount(getPieces(pieceType, pieceColor) & FILE_MASKS[file]);
+    }
+
+    public int getKingSquare(PieceColor pieceColor) {
+        return kingSquares[pieceColor.ordinal()];
+    }
+
+    public long getAttackers(int square, PieceColor attackerColor) {
+        long lineOfSight = MoveTable.lineOfSight(square, occupied);
+        long attackers = 0L;
+        for (PieceType pieceType : PIECE_TYPES) {
+            int kind = kindOf(pieceType, attackerColor);
+            long candidates = pieces[kind] & pieceType.getAttackerMask(square, attackerColor);
+            if (candidates != 0 && !PIECES[kind].isAbleToJump()) {
+                candidates &= lineOfSight;
+            }
+            attackers |= candidates;
+        }
+        return attackers;
+    }
+
+    public int getDuplicatedPawnCount(PieceColor pieceColor, int file) {
+        return duplicatedPawnCountOf(pawnCounts[pieceColor.ordinal() * LINE_SIZE + file]);
+    }
+
+    public int getDuplicatedPawnCount(PieceColor pieceColor) {
+        return duplicatedPawnCounts[pieceColor.ordinal()];
+    }
+
+    public double getScore(PieceColor pieceColor) {
+        return scores[pieceColor.ordinal()];
+    }
+
+    public BitBoard copy() {
+        BitBoard copied = new BitBoard();
+        System.arraycopy(pieces, 0, copied.pieces, 0, PIECE_KIND_COUNT);
+        System.arraycopy(colors, 0, copied.colors, 0, colors.length);
+        System.arraycopy(scores, 0, copied.scores, 0, scores.length);
+        System.arraycopy(pawnCounts, 0, copied.pawnCounts, 0, pawnCounts.length);
+        System.arraycopy(duplicatedPawnCounts, 0, copied.duplicatedPawnCounts, 0, duplicatedPawnCounts.length);
+        System.arraycopy(kingSquares, 0, copied.kingSquares, 0, kingSquares.length);
+        copied.occupied = occupied;
+        copied.hash = hash;
+        return copied;
+    }
+}
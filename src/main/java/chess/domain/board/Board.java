@@ -1,34 +1,42 @@
 package chess.domain.board;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import chess.domain.piece.Piece;
 import chess.domain.piece.PieceColor;
 import chess.domain.piece.PieceFactory;
-import chess.domain.position.Direction;
+import chess.domain.piece.PieceType;
 import chess.domain.position.Position;
 import chess.domain.position.XAxis;
 import chess.domain.position.YAxis;
 
 public class Board {
-    private final Map<Position, Piece> value;
+    private final BitBoard value;
+    private int lastUndo = UndoRecord.NONE;
 
-    private Board(Map<Position, Piece> value) {
+    private Board(BitBoard value) {
         this.value = value;
     }
 
     public static Board createInitializedBoard() {
-        return new Board(initBoard());
+        return from(initBoard());
     }
 
     public static Board from(Map<Position, Piece> value) {
-        return new Board(value);
+        BitBoard bitBoard = new BitBoard();
+        for (Map.Entry<Position, Piece> entry : value.entrySet()) {
+            bitBoard.put(entry.getKey().getIndex(), BitBoard.kindOf(entry.getValue()));
+        }
+        return new Board(bitBoard);
+    }
+
+    static Board from(BitBoard bitBoard) {
+        return new Board(bitBoard);
     }
 
     private static Map<Position, Piece> initBoard() {
@@ -62,11 +70,21 @@ public class Board {
     }
 
     public Optional<Piece> find(Position position) {
-        return Optional.ofNullable(value.get(position));
+        return Optional.ofNullable(pieceAt(position.getIndex()));
+    }
+
+    public Piece pieceAt(int square) {
+        int kind = value.kindAt(square);
+        if (kind == BitBoard.EMPTY) {
+            return null;
+        }
+        return BitBoard.pieceOf(kind);
     }
 
     public MoveResult executeCommand(Position from, Position to, PieceColor pieceColor) {
-        Piece piece = value.get(from);
+        int fromSquare = from.getIndex();
+        int toSquare = to.getIndex();
+        Piece piece = pieceAt(fromSquare);
 
         if (Objects.isNull(piece)) {
             return MoveResult.EMPTY_CELL;
@@ -74,64 +92,33 @@ public class Board {
         if (!piece.isSameColorAs(pieceColor)) {
             return MoveResult.INVALID_TURN;
         }
-        Piece otherPiece = value.get(to);
+        Piece otherPiece = pieceAt(toSquare);
 
-        if (!piece.isAbleToJump() && hasObstacle(from, to)) {
+        if (!piece.isAbleToJump() && hasObstacle(fromSquare, toSquare)) {
             return MoveResult.HAS_OBSTACLE;
         }
 
         if (otherPiece == null) {
-            return move(from, to);
-        }
-
-        return attack(from, to);
-    }
-
-    private boolean hasObstacle(Position from, Position to) {
-        Direction direction = Direction.of(from, to);
-
-        if (direction.isVertical()) {
-            return hasAnyPiece(from.getPositionsSameYAxisBetween(to));
-        }
-
-        if (direction.isHorizontal()) {
-            return hasAnyPiece(from.getPositionsSameXAxisBetween(to));
-        }
-
-        if (direction.isDiagonal()) {
-            return hasAnyPiece(from.getPositionsSameDirectionDiagonalBetween(to));
+            return move(from, to, piece);
         }
 
-        return false;
+        return attack(from, to, piece, otherPiece);
     }
 
-    private boolean hasAnyPiece(List<Position> positions) {
-        return positions.stream()
-            .map(value::get)
-            .anyMatch(position -> !Objects.isNull(position));
+    private boolean hasObstacle(int from, int to) {
+        return value.hasAnyPiece(BitBoard.between(from, to));
     }
 
-    private MoveResult move(Position from, Position to) {
-        Piece piece = value.get(from);
-        Piece otherPiece = value.get(to);
-
+    private MoveResult move(Position from, Position to, Piece piece) {
         if (!piece.isAbleToMove(from, to)) {
             return MoveResult.INVALID_MOVE_STRATEGY;
         }
 
-        if (isExistingSameTeam(piece, otherPiece)) {
-            return MoveResult.EXISTING_SAME_TEAM;
-        }
-
-        value.put(to, piece);
-        value.remove(from);
+        lastUndo = makeMove(from.getIndex(), to.getIndex());
         return MoveResult.MOVE_SUCCESS;
     }
 
-    private MoveResult attack(Position from, Position to) {
-        Piece piece = value.get(from);
-        Piece otherPiece = value.get(to);
-
+    private MoveResult attack(Position from, Position to, Piece piece, Piece otherPiece) {
         if (!piece.isAbleToAttack(from, to)) {
             return MoveResult.INVALID_MOVE_STRATEGY;
         }
@@ -140,8 +127,7 @@ public class Board {
             return MoveResult.EXISTING_SAME_TEAM;
         }
 
-        value.put(to, piece);
-        value.remove(from);
+        lastUndo = makeMove(from.getIndex(), to.getIndex());
 
         if (otherPiece.isKing()) {
             return MoveResult.KILL_KING;
@@ -150,50 +136,113 @@ public class Board {
         return MoveResult.KILL_ENEMY;
     }
 
+    public int makeMove(int from, int to) {
+        int capturedKind = value.remove(to);
+        int kind = value.remove(from);
+        value.put(to, kind);
+        return UndoRecord.of(from, to, capturedKind, BitBoard.pieceOf(kind).getPieceColor());
+    }
+
+    public int makeMove(Position from, Position to) {
+        return makeMove(from.getIndex(), to.getIndex());
+    }
+
+    public void unmakeMove(int undo) {
+        int from = UndoRecord.from(undo);
+        int to = UndoRecord.to(undo);
+
+        value.put(from, value.remove(to));
+        if (UndoRecord.hasCaptured(undo)) {
+            value.put(to, UndoRecord.capturedKind(undo));
+        }
+    }
+
+    public long positionKey(PieceColor sideToMove) {
+        return value.getHash() ^ Zobrist.sideKey(sideToMove);
+    }
+
+    public int getLastUndo() {
+        return lastUndo;
+    }
+
     private boolean isExistingSameTeam(Piece piece, Piece otherPiece) {
         return !Objects.isNull(otherPiece) && otherPiece.isSameColorAs(piece);
     }
 
     public int getDuplicatedPawnCountByXAxis(PieceColor pieceColor, XAxis xAxis) {
-        List<Position> positions = Position.getPositionsByXAxis(xAxis);
-        int count = countPawnByPositions(pieceColor, positions);
+        return value.getDuplicatedPawnCount(pieceColor, xAxis.getValue() - 1);
+    }
 
-        if (count >= 2) {
-            return count;
-        }
-        return 0;
+    public int getDuplicatedPawnCount(PieceColor pieceColor) {
+        return value.getDuplicatedPawnCount(pieceColor);
     }
 
-    private int countPawnByPositions(PieceColor pieceColor, List<Position> positions) {
-        return (int)positions.stream()
-            .map(value::get)
-            .filter(piece -> !Objects.isNull(piece))
-            .filter(piece -> piece.isSameColorAs(pieceColor))
-            .filter(Piece::isPawn)
-            .count();
+    public double getMaterialScore(PieceColor pieceColor) {
+        return value.getScore(pieceColor);
     }
 
-    public Set<Piece> findPiecesByPieceColor(PieceColor pieceColor) {
-        return value.values()
-            .stream()
-            .filter(piece -> piece.isSameColorAs(pieceColor))
-            .collect(Collectors.toSet());
+    public List<Piece> findPiecesByPieceColor(PieceColor pieceColor) {
+        List<Piece> pieces = new ArrayList<>();
+        long remaining = value.getPieces(pieceColor);
+        while (remaining != 0) {
+            pieces.add(pieceAt(Long.numberOfTrailingZeros(remaining)));
+            remaining &= remaining - 1;
+        }
+        return pieces;
+    }
+
+    public int countPieces(PieceType pieceType, PieceColor pieceColor) {
+        return Long.bitCount(value.getPieces(pieceType, pieceColor));
     }
 
     public boolean hasKing(PieceColor pieceColor) {
-        return findPiecesByPieceColor(pieceColor)
-            .stream()
-            .anyMatch(Piece::isKing);
+        return value.getKingSquare(pieceColor) != BitBoard.EMPTY;
     }
 
-    public Map<Position, Piece> getValue() {
+    public boolean isCheck(PieceColor pieceColor) {
+        int kingSquare = value.getKingSquare(pieceColor);
+        return kingSquare != BitBoard.EMPTY && value.getAttackers(kingSquare, pieceColor.opposite()) != 0;
+    }
+
+    public boolean isCheckmate(PieceColor pieceColor) {
+        return hasBothKings() && isCheck(pieceColor) && !hasLegalMove(pieceColor);
+    }
+
+    public boolean isStalemate(PieceColor pieceColor) {
+        return hasBothKings() && !isCheck(pieceColor) && !hasLegalMove(pieceColor);
+    }
+
+    public boolean hasBothKings() {
+        return hasKing(PieceColor.WHITE) && hasKing(PieceColor.BLACK);
+    }
+
+    public boolean hasLegalMove(PieceColor pieceColor) {
+        return MoveGenerator.hasLegalMove(this, pieceColor);
+    }
+
+    public Board copy() {
+        return new Board(value.copy());
+    }
+
+    BitBoard getBitBoard() {
         return value;
     }
 
+    public Map<Position, Piece> getValue() {
+        Map<Position, Piece> pieces = new HashMap<>();
+        long remaining = value.getOccupied();
+        while (remaining != 0) {
+            int square = Long.numberOfTrailingZeros(remaining);
+            pieces.put(Position.ofIndex(square), pieceAt(square));
+            remaining &= remaining - 1;
+        }
+        return pieces;
+    }
+
     @Override
     public String toString() {
         return "Board{" +
-            "value=" + value +
+            "value=" + getValue() +
             '}';
     }
 }
@@ -0,0 +1,38 @@
+package chess.domain.board;
+
+public class BoardCodec {
+    public static final int ENCODED_SIZE = BitBoard.SQUARE_COUNT / 2;
+
+    private static final int NIBBLE_BITS = 4;
+    private static final int NIBBLE_MASK = 0xF;
+    private static final int EMPTY_NIBBLE = 0;
+    private static final int MAX_NIBBLE = 12;
+
+    public static byte[] encode(Board board) {
+        BitBoard bitBoard = board.getBitBoard();
+        byte[] encoded = new byte[ENCODED_SIZE];
+        for (int square = 0; square < BitBoard.SQUARE_COUNT; square++) {
+            int nibble = bitBoard.kindAt(square) + 1;
+            encoded[square / 2] |= nibble << (square % 2) * NIBBLE_BITS;
+        }
+        return encoded;
+    }
+
+    public static Board decode(byte[] encoded) {
+        if (encoded == null || encoded.length != ENCODED_SIZE) {
+            throw new IllegalArgumentException("잘못된 체스판 데이터입니다.");
+        }
+
+        BitBoard bitBoard = new BitBoard();
+        for (int square = 0; square < BitBoard.SQUARE_COUNT; square++) {
+            int nibble = encoded[square / 2] >> (square % 2) * NIBBLE_BITS & NIBBLE_MASK;
+            if (nibble > MAX_NIBBLE) {
+                throw new IllegalArgumentException("잘못된 체스판 데이터입니다.");
+            }
+            if (nibble != EMPTY_NIBBLE) {
+                bitBoard.put(square, nibble - 1);
+            }
+        }
+        return Board.from(bitBoard);
+    }
+}
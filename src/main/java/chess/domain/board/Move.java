@@ -0,0 +1,36 @@
+package chess.domain.board;
+
+import chess.domain.position.Position;
+
+public class Move {
+    private static final int SQUARE_BITS = 6;
+    private static final int SQUARE_MASK = (1 << SQUARE_BITS) - 1;
+
+    public static int of(int from, int to) {
+        return from << SQUARE_BITS | to;
+    }
+
+    public static int of(Position from, Position to) {
+        return of(from.getIndex(), to.getIndex());
+    }
+
+    public static int from(int move) {
+        return move >>> SQUARE_BITS & SQUARE_MASK;
+    }
+
+    public static int to(int move) {
+        return move & SQUARE_MASK;
+    }
+
+    public static Position fromPosition(int move) {
+        return Position.ofIndex(from(move));
+    }
+
+    public static Position toPosition(int move) {
+        return Position.ofIndex(to(move));
+    }
+
+    public static String toCoordinate(int move) {
+        return fromPosition(move).toCoordinate() + toPosition(move).toCoordinate();
+    }
+}
@@ -0,0 +1,95 @@
+package chess.domain.board;
+
+import chess.domain.piece.MoveTable;
+import chess.domain.piece.PieceColor;
+import chess.domain.piece.PieceType;
+
+public class MoveGenerator {
+    private static final long ALL_SQUARES = -1L;
+
+    public static void generate(Board board, PieceColor pieceColor, MoveList moves) {
+        moves.clear();
+        if (!board.hasKing(PieceColor.WHITE) || !board.hasKing(PieceColor.BLACK)) {
+            return;
+        }
+
+        BitBoard bitBoard = board.getBitBoard();
+        long occupied = bitBoard.getOccupied();
+        long enemies = bitBoard.getPieces(pieceColor.opposite());
+
+        for (PieceType pieceType : PieceType.values()) {
+            boolean isAbleToJump = BitBoard.pieceOf(BitBoard.kindOf(pieceType, pieceColor)).isAbleToJump();
+            long remaining = bitBoard.getPieces(pieceType, pieceColor);
+
+            while (remaining != 0) {
+                int from = Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                addMoves(moves, from, targetsOf(pieceType, pieceColor, isAbleToJump, from, occupied, enemies));
+            }
+        }
+    }
+
+    public static boolean hasLegalMove(Board board, PieceColor pieceColor) {
+        if (!board.hasKing(PieceColor.WHITE) || !board.hasKing(PieceColor.BLACK)) {
+            return false;
+        }
+
+        BitBoard bitBoard = board.getBitBoard();
+        long occupied = bitBoard.getOccupied();
+        long enemies = bitBoard.getPieces(pieceColor.opposite());
+        int kingSquare = bitBoard.getKingSquare(pieceColor);
+        long unpinnable = ~MoveTable.lineOfSight(kingSquare, 0L);
+        if (board.isCheck(pieceColor)) {
+            unpinnable = 0L;
+        }
+
+        for (PieceType pieceType : PieceType.values()) {
+            boolean isAbleToJump = BitBoard.pieceOf(BitBoard.kindOf(pieceType, pieceColor)).isAbleToJump();
+            long remaining = bitBoard.getPieces(pieceType, pieceColor);
+
+            while (remaining != 0) {
+                int from = Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                long targets = targetsOf(pieceType, pieceColor, isAbleToJump, from, occupied, enemies);
+                if (targets == 0) {
+                    continue;
+                }
+                if (from != kingSquare && (unpinnable & 1L << from) != 0) {
+                    return true;
+                }
+                if (hasLegalTarget(board, pieceColor, from, targets)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static long targetsOf(PieceType pieceType, PieceColor pieceColor, boolean isAbleToJump, int from,
+        long occupied, long enemies) {
+        long reachable = isAbleToJump ? ALL_SQUARES : MoveTable.lineOfSight(from, occupied);
+        long targets = pieceType.getMoveMask(from, pieceColor) & ~occupied
+            | pieceType.getAttackMask(from, pieceColor) & enemies;
+        return targets & reachable;
+    }
+
+    private static boolean hasLegalTarget(Board board, PieceColor pieceColor, int from, long targets) {
+        while (targets != 0) {
+            int undo = board.makeMove(from, Long.numberOfTrailingZeros(targets));
+            boolean isLegal = !board.hasKing(pieceColor.opposite()) || !board.isCheck(pieceColor);
+            board.unmakeMove(undo);
+            if (isLegal) {
+                return true;
+            }
+            targets &= targets - 1;
+        }
+        return false;
+    }
+
+    private static void addMoves(MoveList moves, int from, long targets) {
+        while (targets != 0) {
+            moves.add(Move.of(from, Long.numberOfTrailingZeros(targets)));
+            targets &= targets - 1;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package chess.domain.board;
+
+public class MoveList {
+    private static final int MAX_MOVES = 256;
+
+    private final int[] moves = new int[MAX_MOVES];
+    private int size;
+
+    public void add(int move) {
+        moves[size++] = move;
+    }
+
+    public int get(int index) {
+        return moves[index];
+    }
+
+    public void set(int index, int move) {
+        moves[index] = move;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,88 @@
+package chess.domain.board;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import chess.domain.piece.PieceColor;
+
+public class Perft {
+
+    public static long count(Board board, PieceColor pieceColor, int depth) {
+        MoveList[] moveStack = new MoveList[Math.max(depth, 1)];
+        for (int i = 0; i < moveStack.length; i++) {
+            moveStack[i] = new MoveList();
+        }
+        return count(board, pieceColor, depth, moveStack);
+    }
+
+    private static long count(Board board, PieceColor pieceColor, int depth, MoveList[] moveStack) {
+        if (depth == 0) {
+            return 1;
+        }
+
+        MoveList moves = moveStack[depth - 1];
+        MoveGenerator.generate(board, pieceColor, moves);
+        if (depth == 1) {
+            return moves.size();
+        }
+
+        long nodes = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            int undo = board.makeMove(Move.from(moves.get(i)), Move.to(moves.get(i)));
+            nodes += count(board, pieceColor.opposite(), depth - 1, moveStack);
+            board.unmakeMove(undo);
+        }
+        return nodes;
+    }
+
+    public static long countInParallel(Board board, PieceColor pieceColor, int depth, ForkJoinPool pool) {
+        if (depth <= 1) {
+            return count(board, pieceColor, depth);
+        }
+
+        MoveList moves = new MoveList();
+        MoveGenerator.generate(board, pieceColor, moves);
+
+        List<PerftTask> tasks = new ArrayList<>();
+        for (int i = 0; i < moves.size(); i++) {
+            Board child = board.copy();
+            child.makeMove(Move.from(moves.get(i)), Move.to(moves.get(i)));
+            PerftTask task = new PerftTask(child, pieceColor.opposite(), depth - 1);
+            pool.execute(task);
+            tasks.add(task);
+        }
+
+        long nodes = 0;
+        for (PerftTask task : tasks) {
+            nodes += task.join();
+        }
+        return nodes;
+    }
+
+    public static PerftResult measure(Board board, PieceColor pieceColor, int depth, ForkJoinPool pool) {
+        long startNanos = System.nanoTime();
+        long nodes = countInParallel(board, pieceColor, depth, pool);
+        return new PerftResult(depth, nodes, System.nanoTime() - startNanos);
+    }
+
+    private static class PerftTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final Board board;
+        private final PieceColor pieceColor;
+        private final int depth;
+
+        private PerftTask(Board board, PieceColor pieceColor, int depth) {
+            this.board = board;
+            this.pieceColor = pieceColor;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Long compute() {
+            return count(board, pieceColor, depth);
+        }
+    }
+}
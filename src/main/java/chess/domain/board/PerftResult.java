@@ -0,0 +1,44 @@
+package chess.domain.board;
+
+import java.util.concurrent.TimeUnit;
+
+public class PerftResult {
+    private final int depth;
+    private final long nodes;
+    private final long elapsedNanos;
+
+    public PerftResult(int depth, long nodes, long elapsedNanos) {
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getNodesPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return nodes * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "PerftResult{" +
+            "depth=" + depth +
+            ", nodes=" + nodes +
+            ", elapsedNanos=" + elapsedNanos +
+            ", nodesPerSecond=" + getNodesPerSecond() +
+            '}';
+    }
+}
@@ -0,0 +1,58 @@
+package chess.domain.board;
+
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceColor;
+import chess.domain.position.Position;
+
+public class UndoRecord {
+    public static final int NONE = -1;
+
+    private static final int SQUARE_BITS = 6;
+    private static final int SQUARE_MASK = (1 << SQUARE_BITS) - 1;
+    private static final int KIND_SHIFT = SQUARE_BITS * 2;
+    private static final int KIND_MASK = 0xF;
+    private static final int TURN_SHIFT = KIND_SHIFT + 4;
+    private static final PieceColor[] COLORS = PieceColor.values();
+
+    static int of(int from, int to, int capturedKind, PieceColor previousTurn) {
+        return previousTurn.ordinal() << TURN_SHIFT
+            | (capturedKind + 1) << KIND_SHIFT
+            | to << SQUARE_BITS
+            | from;
+    }
+
+    public static int from(int undo) {
+        return undo & SQUARE_MASK;
+    }
+
+    public static int to(int undo) {
+        return undo >>> SQUARE_BITS & SQUARE_MASK;
+    }
+
+    public static int capturedKind(int undo) {
+        return (undo >>> KIND_SHIFT & KIND_MASK) - 1;
+    }
+
+    public static PieceColor previousTurn(int undo) {
+        return COLORS[undo >>> TURN_SHIFT & 1];
+    }
+
+    public static Position fromPosition(int undo) {
+        return Position.ofIndex(from(undo));
+    }
+
+    public static Position toPosition(int undo) {
+        return Position.ofIndex(to(undo));
+    }
+
+    public static boolean hasCaptured(int undo) {
+        return capturedKind(undo) != BitBoard.EMPTY;
+    }
+
+    public static Piece capturedPiece(int undo) {
+        if (!hasCaptured(undo)) {
+            return null;
+        }
+        return BitBoard.pieceOf(capturedKind(undo));
+    }
+}
@@ -0,0 +1,35 @@
+package chess.domain.board;
+
+import java.util.SplittableRandom;
+
+import chess.domain.piece.PieceColor;
+import chess.domain.piece.PieceType;
+import chess.domain.position.Position;
+
+public class Zobrist {
+    private static final long SEED = 20220418L;
+    private static final int PIECE_KIND_COUNT = PieceType.values().length * PieceColor.values().length;
+    private static final long[][] PIECE_KEYS = new long[PIECE_KIND_COUNT][Position.SIZE];
+    private static final long WHITE_TO_MOVE_KEY;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int kind = 0; kind < PIECE_KIND_COUNT; kind++) {
+            for (int square = 0; square < Position.SIZE; square++) {
+                PIECE_KEYS[kind][square] = random.nextLong();
+            }
+        }
+        WHITE_TO_MOVE_KEY = random.nextLong();
+    }
+
+    public static long pieceKey(int kind, int square) {
+        return PIECE_KEYS[kind][square];
+    }
+
+    public static long sideKey(PieceColor sideToMove) {
+        if (sideToMove == PieceColor.WHITE) {
+            return WHITE_TO_MOVE_KEY;
+        }
+        return 0L;
+    }
+}
@@ -0,0 +1,26 @@
+package chess.domain.engine;
+
+import chess.domain.board.Board;
+import chess.domain.piece.PieceColor;
+import chess.domain.piece.PieceType;
+
+public class MaterialEvaluator {
+    private static final int CENTI_PAWNS = 100;
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+    private static final int[] VALUES = new int[PIECE_TYPES.length];
+
+    static {
+        for (PieceType pieceType : PIECE_TYPES) {
+            VALUES[pieceType.ordinal()] = (int)Math.round(pieceType.getScore().getValue() * CENTI_PAWNS);
+        }
+    }
+
+    public static int evaluate(Board board, PieceColor sideToMove) {
+        double material = board.getMaterialScore(sideToMove) - board.getMaterialScore(sideToMove.opposite());
+        return (int)Math.round(material * CENTI_PAWNS);
+    }
+
+    public static int valueOf(PieceType pieceType) {
+        return VALUES[pieceType.ordinal()];
+    }
+}
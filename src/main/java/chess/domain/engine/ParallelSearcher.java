@@ -0,0 +1,47 @@
+package chess.domain.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import chess.domain.board.Board;
+import chess.domain.piece.PieceColor;
+
+public class ParallelSearcher {
+    private static final int HELPER_START_DEPTH_SPREAD = 2;
+
+    private final TranspositionTable transpositionTable;
+    private final Executor helperExecutor;
+
+    public ParallelSearcher(TranspositionTable transpositionTable, Executor helperExecutor) {
+        this.transpositionTable = transpositionTable;
+        this.helperExecutor = helperExecutor;
+    }
+
+    public SearchResult search(Board board, PieceColor sideToMove, long timeBudgetMillis, int maxDepth,
+        int threads) {
+        List<Searcher> helpers = new ArrayList<>();
+        List<CompletableFuture<SearchResult>> helperResults = new ArrayList<>();
+        for (int i = 1; i < threads; i++) {
+            Searcher helper = new Searcher(transpositionTable);
+            Board helperBoard = board.copy();
+            int startDepth = 1 + i % HELPER_START_DEPTH_SPREAD;
+            helpers.add(helper);
+            helperResults.add(CompletableFuture.supplyAsync(
+                () -> helper.search(helperBoard, sideToMove, timeBudgetMillis, maxDepth, startDepth),
+                helperExecutor));
+        }
+
+        SearchResult mainResult = new Searcher(transpositionTable)
+            .search(board, sideToMove, timeBudgetMillis, maxDepth);
+        helpers.forEach(Searcher::abort);
+
+        long nodes = mainResult.getNodes();
+        for (CompletableFuture<SearchResult> helperResult : helperResults) {
+            nodes += helperResult.join().getNodes();
+        }
+        return new SearchResult(mainResult.getBestMove(), mainResult.getScore(), mainResult.getDepth(), nodes,
+            mainResult.getElapsedNanos());
+    }
+}
@@ -0,0 +1,74 @@
+package chess.domain.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import chess.domain.board.Move;
+import chess.domain.position.Position;
+
+public class SearchResult {
+    public static final int NO_MOVE = -1;
+
+    private final int bestMove;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+    private final long elapsedNanos;
+
+    public SearchResult(int bestMove, int score, int depth, long nodes, long elapsedNanos) {
+        this.bestMove = bestMove;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public boolean hasMove() {
+        return bestMove != NO_MOVE;
+    }
+
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    public Position getFrom() {
+        return Move.fromPosition(bestMove);
+    }
+
+    public Position getTo() {
+        return Move.toPosition(bestMove);
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getNodesPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return nodes * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchResult{" +
+            "bestMove=" + (hasMove() ? Move.toCoordinate(bestMove) : "none") +
+            ", score=" + score +
+            ", depth=" + depth +
+            ", nodes=" + nodes +
+            ", nodesPerSecond=" + getNodesPerSecond() +
+            '}';
+    }
+}
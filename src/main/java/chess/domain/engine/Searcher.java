@@ -0,0 +1,264 @@
+package chess.domain.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import chess.domain.board.Board;
+import chess.domain.board.Move;
+import chess.domain.board.MoveGenerator;
+import chess.domain.board.MoveList;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceColor;
+
+public class Searcher {
+    public static final int MAX_DEPTH = 64;
+
+    private static final String ERROR_MESSAGE_ALREADY_USED = "한 번 탐색한 Searcher 는 다시 사용할 수 없습니다.";
+    private static final int INFINITY = 1_000_000;
+    private static final int KING_CAPTURE_SCORE = 100_000;
+    private static final int DECIDED_SCORE = KING_CAPTURE_SCORE - MAX_DEPTH;
+    private static final int MAX_MOVES = 256;
+    private static final int TIME_CHECK_INTERVAL = 1024;
+    private static final int CAPTURE_ORDER_BONUS = 1_000_000;
+    private static final int HASH_MOVE_ORDER_BONUS = 10_000_000;
+    private static final int NO_HASH_MOVE = 0;
+
+    private final MoveList[] moveStack = new MoveList[MAX_DEPTH + 1];
+    private final int[][] orderStack = new int[MAX_DEPTH + 1][MAX_MOVES];
+    private final TranspositionTable transpositionTable;
+
+    private boolean isUsed;
+    private long nodes;
+    private long deadlineNanos;
+    private boolean isTimeLimited;
+    private boolean stopped;
+    private volatile boolean abortRequested;
+    private int rootScore;
+
+    public Searcher() {
+        this(null);
+    }
+
+    public Searcher(TranspositionTable transpositionTable) {
+        this.transpositionTable = transpositionTable;
+        for (int i = 0; i < moveStack.length; i++) {
+            moveStack[i] = new MoveList();
+        }
+    }
+
+    public SearchResult search(Board board, PieceColor sideToMove, long timeBudgetMillis, int maxDepth) {
+        return search(board, sideToMove, timeBudgetMillis, maxDepth, 1);
+    }
+
+    public SearchResult search(Board board, PieceColor sideToMove, long timeBudgetMillis, int maxDepth,
+        int startDepth) {
+        if (isUsed) {
+            throw new IllegalStateException(ERROR_MESSAGE_ALREADY_USED);
+        }
+        isUsed = true;
+        long startNanos = System.nanoTime();
+        nodes = 0;
+        stopped = false;
+        deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+
+        MoveList rootMoves = moveStack[0];
+        MoveGenerator.generate(board, sideToMove, rootMoves);
+        if (rootMoves.isEmpty()) {
+            return new SearchResult(SearchResult.NO_MOVE, 0, 0, 0, System.nanoTime() - startNanos);
+        }
+
+        int bestMove = rootMoves.get(0);
+        int bestScore = 0;
+        int completedDepth = 0;
+
+        for (int depth = Math.max(startDepth, 1); depth <= Math.min(maxDepth, MAX_DEPTH); depth++) {
+            isTimeLimited = completedDepth > 0;
+            int iterationBestMove = searchRoot(board, sideToMove, depth, bestMove);
+            if (stopped) {
+                break;
+            }
+            bestMove = iterationBestMove;
+            bestScore = rootScore;
+            completedDepth = depth;
+            if (Math.abs(bestScore) >= DECIDED_SCORE) {
+                break;
+            }
+        }
+
+        return new SearchResult(bestMove, bestScore, completedDepth, nodes, System.nanoTime() - startNanos);
+    }
+
+    public void abort() {
+        abortRequested = true;
+    }
+
+    private int searchRoot(Board board, PieceColor sideToMove, int depth, int previousBestMove) {
+        MoveList moves = moveStack[0];
+        scoreMoves(board, moves, orderStack[0], previousBestMove);
+
+        int alpha = -INFINITY;
+        int bestMove = previousBestMove;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = pickNext(moves, orderStack[0], i);
+            int undo = board.makeMove(Move.from(move), Move.to(move));
+            int score = -negamax(board, sideToMove.opposite(), depth - 1, -INFINITY, -alpha, 1);
+            board.unmakeMove(undo);
+
+            if (stopped) {
+                return bestMove;
+            }
+            if (score > alpha) {
+                alpha = score;
+                bestMove = move;
+            }
+        }
+        rootScore = alpha;
+        return bestMove;
+    }
+
+    private int negamax(Board board, PieceColor sideToMove, int depth, int alpha, int beta, int ply) {
+        nodes++;
+        if ((nodes & TIME_CHECK_INTERVAL - 1) == 0 && isOutOfTime()) {
+            stopped = true;
+        }
+        if (stopped) {
+            return 0;
+        }
+
+        if (!board.hasKing(sideToMove)) {
+            return -KING_CAPTURE_SCORE + ply;
+        }
+        if (depth == 0 || ply >= MAX_DEPTH) {
+            return MaterialEvaluator.evaluate(board, sideToMove);
+        }
+
+        long key = board.positionKey(sideToMove);
+        int hashMove = NO_HASH_MOVE;
+        if (transpositionTable != null) {
+            long entry = transpositionTable.probe(key);
+            if (entry != TranspositionTable.NOT_FOUND) {
+                hashMove = TranspositionTable.moveOf(entry);
+                if (TranspositionTable.depthOf(entry) >= depth) {
+                    int score = fromTableScore(TranspositionTable.scoreOf(entry), ply);
+                    int bound = TranspositionTable.boundOf(entry);
+                    if (bound == TranspositionTable.EXACT
+                        || bound == TranspositionTable.LOWER_BOUND && score >= beta
+                        || bound == TranspositionTable.UPPER_BOUND && score <= alpha) {
+                        return score;
+                    }
+                }
+            }
+        }
+
+        MoveList moves = moveStack[ply];
+        MoveGenerator.generate(board, sideToMove, moves);
+        if (moves.isEmpty()) {
+            return 0;
+        }
+        int[] order = orderStack[ply];
+        scoreMoves(board, moves, order, hashMove);
+
+        int originalAlpha = alpha;
+        int best = -INFINITY;
+        int bestMove = NO_HASH_MOVE;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = pickNext(moves, order, i);
+            int undo = board.makeMove(Move.from(move), Move.to(move));
+            int score = -negamax(board, sideToMove.opposite(), depth - 1, -beta, -alpha, ply + 1);
+            board.unmakeMove(undo);
+
+            if (stopped) {
+                return 0;
+            }
+            if (score > best) {
+                best = score;
+                bestMove = move;
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+            if (alpha >= beta) {
+                break;
+            }
+        }
+
+        if (transpositionTable != null) {
+            transpositionTable.store(key, bestMove, depth, boundOf(best, originalAlpha, beta), toTableScore(best, ply));
+        }
+        return best;
+    }
+
+    private boolean isOutOfTime() {
+        return abortRequested || isTimeLimited && System.nanoTime() > deadlineNanos;
+    }
+
+    private int boundOf(int score, int originalAlpha, int beta) {
+        if (score <= originalAlpha) {
+            return TranspositionTable.UPPER_BOUND;
+        }
+        if (score >= beta) {
+            return TranspositionTable.LOWER_BOUND;
+        }
+        return TranspositionTable.EXACT;
+    }
+
+    private int toTableScore(int score, int ply) {
+        if (score >= DECIDED_SCORE) {
+            return score + ply;
+        }
+        if (score <= -DECIDED_SCORE) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    private int fromTableScore(int score, int ply) {
+        if (score >= DECIDED_SCORE) {
+            return score - ply;
+        }
+        if (score <= -DECIDED_SCORE) {
+            return score + ply;
+        }
+        return score;
+    }
+
+    private void scoreMoves(Board board, MoveList moves, int[] order, int hashMove) {
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            order[i] = orderScore(board, move, hashMove);
+        }
+    }
+
+    private int orderScore(Board board, int move, int hashMove) {
+        if (move == hashMove) {
+            return HASH_MOVE_ORDER_BONUS;
+        }
+
+        Piece victim = board.pieceAt(Move.to(move));
+        if (victim == null) {
+            return 0;
+        }
+        if (victim.isKing()) {
+            return CAPTURE_ORDER_BONUS + KING_CAPTURE_SCORE;
+        }
+        Piece attacker = board.pieceAt(Move.from(move));
+        return CAPTURE_ORDER_BONUS + MaterialEvaluator.valueOf(victim.getPieceType()) * 16
+            - MaterialEvaluator.valueOf(attacker.getPieceType());
+    }
+
+    private int pickNext(MoveList moves, int[] order, int start) {
+        int bestIndex = start;
+        for (int i = start + 1; i < moves.size(); i++) {
+            if (order[i] > order[bestIndex]) {
+                bestIndex = i;
+            }
+        }
+
+        int move = moves.get(bestIndex);
+        moves.set(bestIndex, moves.get(start));
+        moves.set(start, move);
+        int score = order[bestIndex];
+        order[bestIndex] = order[start];
+        order[start] = score;
+        return move;
+    }
+}
@@ -0,0 +1,76 @@
+package chess.domain.engine;
+
+public class TranspositionTable {
+    public static final long NOT_FOUND = 0L;
+    public static final int EXACT = 0;
+    public static final int LOWER_BOUND = 1;
+    public static final int UPPER_BOUND = 2;
+
+    private static final int LONGS_PER_ENTRY = 2;
+    private static final int MOVE_BITS = 12;
+    private static final int DEPTH_SHIFT = MOVE_BITS;
+    private static final int DEPTH_BITS = 8;
+    private static final int BOUND_SHIFT = DEPTH_SHIFT + DEPTH_BITS;
+    private static final int SCORE_SHIFT = 32;
+    private static final long MOVE_MASK = (1L << MOVE_BITS) - 1;
+    private static final long DEPTH_MASK = (1L << DEPTH_BITS) - 1;
+    private static final long BOUND_MASK = 0x3L;
+
+    private final long[] entries;
+    private final int indexMask;
+
+    public TranspositionTable(int entryCount) {
+        int capacity = Integer.highestOneBit(Math.max(entryCount, 1));
+        this.entries = new long[capacity * LONGS_PER_ENTRY];
+        this.indexMask = capacity - 1;
+    }
+
+    public long probe(long key) {
+        int index = indexOf(key);
+        long data = entries[index + 1];
+        if ((entries[index] ^ data) != key) {
+            return NOT_FOUND;
+        }
+        return data;
+    }
+
+    public void store(long key, int move, int depth, int bound, int score) {
+        int index = indexOf(key);
+        long storedData = entries[index + 1];
+        boolean isSamePosition = (entries[index] ^ storedData) == key;
+        if (isSamePosition && depthOf(storedData) > depth && bound != EXACT) {
+            return;
+        }
+
+        long data = (long)score << SCORE_SHIFT
+            | (bound & BOUND_MASK) << BOUND_SHIFT
+            | (depth & DEPTH_MASK) << DEPTH_SHIFT
+            | move & MOVE_MASK;
+        entries[index] = key ^ data;
+        entries[index + 1] = data;
+    }
+
+    private int indexOf(long key) {
+        return ((int)(key ^ key >>> SCORE_SHIFT) & indexMask) * LONGS_PER_ENTRY;
+    }
+
+    public static int moveOf(long data) {
+        return (int)(data & MOVE_MASK);
+    }
+
+    public static int depthOf(long data) {
+        return (int)(data >>> DEPTH_SHIFT & DEPTH_MASK);
+    }
+
+    public static int boundOf(long data) {
+        return (int)(data >>> BOUND_SHIFT & BOUND_MASK);
+    }
+
+    public static int scoreOf(long data) {
+        return (int)(data >> SCORE_SHIFT);
+    }
+
+    public int capacity() {
+        return indexMask + 1;
+    }
+}
@@ -1,6 +1,7 @@
 package chess.domain.game;
 
 import chess.domain.board.Board;
+import chess.domain.board.UndoRecord;
 import chess.domain.game.score.ScoreResult;
 import chess.domain.game.state.BlackTurn;
 import chess.domain.game.state.GameState;
@@ -12,35 +13,73 @@ import chess.domain.position.Position;
 public class ChessGame {
 
     private GameState state;
+    private int version;
 
-    private ChessGame(GameState gameState) {
+    private ChessGame(GameState gameState, int version) {
         this.state = gameState;
+        this.version = version;
     }
 
     public static ChessGame create() {
-        return new ChessGame(new ReadyToStart());
+        return new ChessGame(new ReadyToStart(), 0);
     }
 
     public static ChessGame of(Board board, PieceColor pieceColor) {
+        return of(board, pieceColor, 0);
+    }
+
+    public static ChessGame of(Board board, PieceColor pieceColor, int version) {
+        return new ChessGame(createState(board, pieceColor), version);
+    }
+
+    private static GameState createState(Board board, PieceColor pieceColor) {
         if (pieceColor.equals(PieceColor.WHITE)) {
-            return new ChessGame(new WhiteTurn(board));
+            return new WhiteTurn(board);
         }
 
-        return new ChessGame(new BlackTurn(board));
+        return new BlackTurn(board);
+    }
+
+    public ChessGame copy() {
+        return new ChessGame(createState(getBoard().copy(), getCurrentTurn()), version);
     }
 
     public ScoreResult getStatus() {
         return state.status();
     }
 
-    public void movePiece(Position from, Position to) {
+    public int movePiece(Position from, Position to) {
         this.state = state.move(from, to);
+        version++;
+        return getBoard().getLastUndo();
+    }
+
+    public void unmakeMove(int undo) {
+        Board board = getBoard();
+        board.unmakeMove(undo);
+        this.state = createState(board, UndoRecord.previousTurn(undo));
+        version--;
+    }
+
+    public int getVersion() {
+        return version;
     }
 
     public boolean isWhiteTurn() {
         return state.isWhiteTurn();
     }
 
+    public long positionKey() {
+        return getBoard().positionKey(getCurrentTurn());
+    }
+
+    public PieceColor getCurrentTurn() {
+        if (isWhiteTurn()) {
+            return PieceColor.WHITE;
+        }
+        return PieceColor.BLACK;
+    }
+
     public Board getBoard() {
         return state.getBoard();
     }
@@ -49,15 +88,19 @@ public class ChessGame {
         return state.getWinColor();
     }
 
+    public GameResult getResult() {
+        return state.getResult();
+    }
+
     public boolean isEnd() {
-        Board board = getBoard();
-        return !(board.hasKing(PieceColor.WHITE) && board.hasKing(PieceColor.BLACK));
+        return getResult().isEnd();
     }
 
     @Override
     public String toString() {
         return "ChessGame{" +
             "state=" + state +
+            ", version=" + version +
             '}';
     }
 }
@@ -0,0 +1,31 @@
+package chess.domain.game;
+
+import chess.domain.piece.PieceColor;
+
+public enum GameResult {
+    PLAYING(null),
+    WHITE_WIN(PieceColor.WHITE),
+    BLACK_WIN(PieceColor.BLACK),
+    DRAW(null);
+
+    private final PieceColor winColor;
+
+    GameResult(PieceColor winColor) {
+        this.winColor = winColor;
+    }
+
+    public static GameResult winOf(PieceColor pieceColor) {
+        if (pieceColor == PieceColor.WHITE) {
+            return WHITE_WIN;
+        }
+        return BLACK_WIN;
+    }
+
+    public boolean isEnd() {
+        return this != PLAYING;
+    }
+
+    public PieceColor getWinColor() {
+        return winColor;
+    }
+}
@@ -0,0 +1,6 @@
+package chess.domain.game;
+
+public enum GameStatus {
+    PLAYING,
+    FINISHED
+}
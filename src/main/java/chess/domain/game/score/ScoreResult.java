@@ -1,50 +1,29 @@
 package chess.domain.game.score;
 
-import java.util.Arrays;
-import java.util.EnumMap;
-import java.util.Map;
-
 import chess.domain.board.Board;
-import chess.domain.piece.Piece;
 import chess.domain.piece.PieceColor;
-import chess.domain.position.XAxis;
 
 public class ScoreResult {
+    private static final double DUPLICATED_PAWN_PENALTY = 0.5;
 
-    private final Map<PieceColor, Score> value;
+    private final double[] value = new double[PieceColor.values().length];
 
     public ScoreResult(Board board) {
-        this.value = initialize(board);
-    }
-
-    private Map<PieceColor, Score> initialize(Board board) {
-        Map<PieceColor, Score> value = new EnumMap<>(PieceColor.class);
-
         for (PieceColor pieceColor : PieceColor.values()) {
-            value.put(pieceColor, calculateScore(board, pieceColor));
+            value[pieceColor.ordinal()] = calculateScore(board, pieceColor);
         }
-
-        return value;
     }
 
-    private Score calculateScore(Board board, PieceColor pieceColor) {
-        return board.findPiecesByPieceColor(pieceColor)
-            .stream()
-            .map(Piece::getScore)
-            .reduce(Score::add)
-            .map(score -> score.subtract(adjustPawnScore(board, pieceColor)))
-            .orElse(Score.from(0));
+    private double calculateScore(Board board, PieceColor pieceColor) {
+        return board.getMaterialScore(pieceColor)
+            - board.getDuplicatedPawnCount(pieceColor) * DUPLICATED_PAWN_PENALTY;
     }
 
-    private Score adjustPawnScore(Board board, PieceColor pieceColor) {
-        int duplicatedPawnCount = Arrays.stream(XAxis.values())
-            .mapToInt(xAxis -> board.getDuplicatedPawnCountByXAxis(pieceColor, xAxis))
-            .sum();
-
-        return Score.from(duplicatedPawnCount * 0.5);
+    public Score getScoreByPieceColor(PieceColor pieceColor) {
+        return Score.from(getValueByPieceColor(pieceColor));
     }
 
-    public Score getScoreByPieceColor(PieceColor pieceColor) {
-        return value.get(pieceColor);
+    public double getValueByPieceColor(PieceColor pieceColor) {
+        return value[pieceColor.ordinal()];
     }
 }
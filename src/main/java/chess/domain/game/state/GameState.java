@@ -1,6 +1,7 @@
 package chess.domain.game.state;
 
 import chess.domain.board.Board;
+import chess.domain.game.GameResult;
 import chess.domain.game.score.ScoreResult;
 import chess.domain.piece.PieceColor;
 import chess.domain.position.Position;
@@ -16,5 +17,7 @@ public interface GameState {
 
     PieceColor getWinColor();
 
+    GameResult getResult();
+
     Board getBoard();
 }
@@ -2,6 +2,7 @@ package chess.domain.game.state;
 
 import chess.domain.board.Board;
 import chess.domain.board.MoveResult;
+import chess.domain.game.GameResult;
 import chess.domain.game.score.ScoreResult;
 import chess.domain.piece.PieceColor;
 import chess.domain.position.Position;
@@ -23,6 +24,7 @@ public abstract class InGame implements GameState {
     public GameState move(Position from, Position to) {
         Board board = getBoard();
         validateKingDie(board);
+        validateHasLegalMove(board);
 
         MoveResult moveResult = board.executeCommand(from, to, getCurrentPieceColor());
         if (!moveResult.isMoveSuccess()) {
@@ -33,26 +35,53 @@ public abstract class InGame implements GameState {
     }
 
     private void validateKingDie(Board board) {
-        if (!board.hasKing(PieceColor.WHITE) || !board.hasKing(PieceColor.BLACK)) {
+        if (!board.hasBothKings()) {
             throw new IllegalStateException("킹이 죽었으므로 더이상 게임을 진행할 수 없습니다.");
         }
     }
 
+    private void validateHasLegalMove(Board board) {
+        PieceColor pieceColor = getCurrentPieceColor();
+        if (board.hasLegalMove(pieceColor)) {
+            return;
+        }
+        if (board.isCheck(pieceColor)) {
+            throw new IllegalStateException("체크메이트이므로 더이상 게임을 진행할 수 없습니다.");
+        }
+        throw new IllegalStateException("스테일메이트이므로 더이상 게임을 진행할 수 없습니다.");
+    }
+
     protected abstract PieceColor getCurrentPieceColor();
 
     protected abstract GameState getNextTurnState();
 
     @Override
     public PieceColor getWinColor() {
+        GameResult result = getResult();
+        if (!result.isEnd()) {
+            throw new IllegalStateException("아직 양쪽의 킹이 모두 살아있습니다.");
+        }
+        return result.getWinColor();
+    }
+
+    @Override
+    public GameResult getResult() {
         if (!board.hasKing(PieceColor.WHITE)) {
-            return PieceColor.BLACK;
+            return GameResult.BLACK_WIN;
         }
 
         if (!board.hasKing(PieceColor.BLACK)) {
-            return PieceColor.WHITE;
+            return GameResult.WHITE_WIN;
         }
 
-        throw new IllegalStateException("아직 양쪽의 킹이 모두 살아있습니다.");
+        PieceColor pieceColor = getCurrentPieceColor();
+        if (board.hasLegalMove(pieceColor)) {
+            return GameResult.PLAYING;
+        }
+        if (board.isCheck(pieceColor)) {
+            return GameResult.winOf(pieceColor.opposite());
+        }
+        return GameResult.DRAW;
     }
 
     @Override
@@ -1,6 +1,7 @@
 package chess.domain.game.state;
 
 import chess.domain.board.Board;
+import chess.domain.game.GameResult;
 import chess.domain.game.score.ScoreResult;
 import chess.domain.piece.PieceColor;
 import chess.domain.position.Position;
@@ -32,6 +33,11 @@ public class ReadyToStart implements GameState {
         throw new IllegalStateException("게임중이 아니므로 승자를 가져올 수 없습니다.");
     }
 
+    @Override
+    public GameResult getResult() {
+        throw new IllegalStateException("게임중이 아니므로 결과를 가져올 수 없습니다.");
+    }
+
     @Override
     public boolean isWhiteTurn() {
         throw new IllegalStateException("게임중이 아니므로 백팀의 차례인지 가져올 수 없습니다.");
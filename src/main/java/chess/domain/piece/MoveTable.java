@@ -0,0 +1,112 @@
+package chess.domain.piece;
+
+import chess.domain.piece.movingstrategy.MovingStrategy;
+import chess.domain.position.Position;
+
+public class MoveTable {
+    private static final int LINE_SIZE = 8;
+    private static final int[][] RAY_STEPS = {
+        {0, 1}, {1, 0}, {1, 1}, {-1, 1},
+        {0, -1}, {-1, 0}, {-1, -1}, {1, -1}
+    };
+    private static final int INCREASING_RAY_COUNT = 4;
+    private static final long[][] RAYS = new long[RAY_STEPS.length][Position.SIZE];
+
+    static {
+        for (int ray = 0; ray < RAY_STEPS.length; ray++) {
+            for (int square = 0; square < Position.SIZE; square++) {
+                RAYS[ray][square] = calculateRay(square, RAY_STEPS[ray][0], RAY_STEPS[ray][1]);
+            }
+        }
+    }
+
+    private final long[][] moveMasks;
+    private final long[][] attackMasks;
+    private final long[][] attackerMasks;
+
+    private MoveTable(long[][] moveMasks, long[][] attackMasks, long[][] attackerMasks) {
+        this.moveMasks = moveMasks;
+        this.attackMasks = attackMasks;
+        this.attackerMasks = attackerMasks;
+    }
+
+    public static MoveTable from(MovingStrategy movingStrategy) {
+        int colorCount = PieceColor.values().length;
+        long[][] moveMasks = new long[colorCount][Position.SIZE];
+        long[][] attackMasks = new long[colorCount][Position.SIZE];
+        long[][] attackerMasks = new long[colorCount][Position.SIZE];
+
+        for (PieceColor pieceColor : PieceColor.values()) {
+            for (Position from : Position.getAllPositions()) {
+                for (Position to : Position.getAllPositions()) {
+                    long bit = 1L << to.getIndex();
+                    if (movingStrategy.isAbleToMove(from, to, pieceColor)) {
+                        moveMasks[pieceColor.ordinal()][from.getIndex()] |= bit;
+                    }
+                    if (movingStrategy.isAbleToAttack(from, to, pieceColor)) {
+                        attackMasks[pieceColor.ordinal()][from.getIndex()] |= bit;
+                        attackerMasks[pieceColor.ordinal()][to.getIndex()] |= 1L << from.getIndex();
+                    }
+                }
+            }
+        }
+
+        return new MoveTable(moveMasks, attackMasks, attackerMasks);
+    }
+
+    private static long calculateRay(int square, int fileStep, int rankStep) {
+        long ray = 0L;
+        int file = square % LINE_SIZE + fileStep;
+        int rank = square / LINE_SIZE + rankStep;
+
+        while (file >= 0 && file < LINE_SIZE && rank >= 0 && rank < LINE_SIZE) {
+            ray |= 1L << (rank * LINE_SIZE + file);
+            file += fileStep;
+            rank += rankStep;
+        }
+        return ray;
+    }
+
+    public static long lineOfSight(int square, long occupied) {
+        long visible = 0L;
+
+        for (int ray = 0; ray < RAY_STEPS.length; ray++) {
+            long fullRay = RAYS[ray][square];
+            long blockers = fullRay & occupied;
+            if (blockers == 0) {
+                visible |= fullRay;
+                continue;
+            }
+            int blocker = nearestBlocker(ray, blockers);
+            visible |= fullRay ^ RAYS[ray][blocker];
+        }
+        return visible;
+    }
+
+    private static int nearestBlocker(int ray, long blockers) {
+        if (ray < INCREASING_RAY_COUNT) {
+            return Long.numberOfTrailingZeros(blockers);
+        }
+        return Long.SIZE - 1 - Long.numberOfLeadingZeros(blockers);
+    }
+
+    public boolean isAbleToMove(Position from, Position to, PieceColor pieceColor) {
+        return (moveMasks[pieceColor.ordinal()][from.getIndex()] & 1L << to.getIndex()) != 0;
+    }
+
+    public boolean isAbleToAttack(Position from, Position to, PieceColor pieceColor) {
+        return (attackMasks[pieceColor.ordinal()][from.getIndex()] & 1L << to.getIndex()) != 0;
+    }
+
+    public long getMoveMask(int from, PieceColor pieceColor) {
+        return moveMasks[pieceColor.ordinal()][from];
+    }
+
+    public long getAttackMask(int from, PieceColor pieceColor) {
+        return attackMasks[pieceColor.ordinal()][from];
+    }
+
+    public long getAttackerMask(int to, PieceColor pieceColor) {
+        return attackerMasks[pieceColor.ordinal()][to];
+    }
+}
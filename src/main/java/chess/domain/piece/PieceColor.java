@@ -2,5 +2,12 @@ package chess.domain.piece;
 
 public enum PieceColor {
     BLACK,
-    WHITE
+    WHITE;
+
+    public PieceColor opposite() {
+        if (this == BLACK) {
+            return WHITE;
+        }
+        return BLACK;
+    }
 }
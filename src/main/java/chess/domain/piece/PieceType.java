@@ -19,19 +19,31 @@ public enum PieceType {
     KING(Score.from(0), new KingMovingStrategy());
 
     private final Score score;
-    private final MovingStrategy movingStrategy;
+    private final MoveTable moveTable;
 
     PieceType(Score score, MovingStrategy movingStrategy) {
         this.score = score;
-        this.movingStrategy = movingStrategy;
+        this.moveTable = MoveTable.from(movingStrategy);
     }
 
     public boolean isAbleToMove(Position from, Position to, PieceColor pieceColor) {
-        return movingStrategy.isAbleToMove(from, to, pieceColor);
+        return moveTable.isAbleToMove(from, to, pieceColor);
     }
 
     public boolean isAbleToAttack(Position from, Position to, PieceColor pieceColor) {
-        return movingStrategy.isAbleToAttack(from, to, pieceColor);
+        return moveTable.isAbleToAttack(from, to, pieceColor);
+    }
+
+    public long getMoveMask(int from, PieceColor pieceColor) {
+        return moveTable.getMoveMask(from, pieceColor);
+    }
+
+    public long getAttackMask(int from, PieceColor pieceColor) {
+        return moveTable.getAttackMask(from, pieceColor);
+    }
+
+    public long getAttackerMask(int to, PieceColor pieceColor) {
+        return moveTable.getAttackerMask(to, pieceColor);
     }
 
     public Score getScore() {
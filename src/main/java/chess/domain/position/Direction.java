@@ -14,6 +14,16 @@ public enum Direction {
     SEVEN_SHAPE(0),
     UNDEFINED_DIRECTION(0);
 
+    private static final Direction[][] TABLE = new Direction[Position.SIZE][Position.SIZE];
+
+    static {
+        for (Position from : Position.getAllPositions()) {
+            for (Position to : Position.getAllPositions()) {
+                TABLE[from.getIndex()][to.getIndex()] = calculate(from, to);
+            }
+        }
+    }
+
     private final double degree;
 
     Direction(double degree) {
@@ -21,6 +31,10 @@ public enum Direction {
     }
 
     public static Direction of(Position from, Position to) {
+        return TABLE[from.getIndex()][to.getIndex()];
+    }
+
+    private static Direction calculate(Position from, Position to) {
         double degree = Position.calculateDegree(from, to);
 
         if (isSevenShape(from, to)) {
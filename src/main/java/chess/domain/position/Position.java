@@ -1,6 +1,6 @@
 package chess.domain.position;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.NoSuchElementException;
@@ -8,19 +8,31 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 public class Position {
+    public static final int SIZE = 64;
+    private static final int LINE_SIZE = 8;
 
     private final XAxis xAxis;
     private final YAxis yAxis;
+    private final int index;
 
     private Position(XAxis xAxis, YAxis yAxis) {
         this.xAxis = xAxis;
         this.yAxis = yAxis;
+        this.index = indexOf(xAxis, yAxis);
+    }
+
+    private static int indexOf(XAxis xAxis, YAxis yAxis) {
+        return (yAxis.getValue() - 1) * LINE_SIZE + xAxis.getValue() - 1;
     }
 
     public static Position of(XAxis xAxis, YAxis yAxis) {
         return Cache.findByXAxisAndYAxis(xAxis, yAxis);
     }
 
+    public static Position ofIndex(int index) {
+        return Cache.findByIndex(index);
+    }
+
     public static Position of(int xAxisValue, int yAxisValue) {
         XAxis xAxis = XAxis.getByValue(xAxisValue);
         YAxis yAxis = YAxis.getByValue(yAxisValue);
@@ -43,9 +55,7 @@ public class Position {
     }
 
     public static List<Position> getPositionsByXAxis(XAxis xAxis) {
-        return Arrays.stream(YAxis.values())
-            .map(yAxis -> Position.of(xAxis, yAxis))
-            .collect(Collectors.toList());
+        return Cache.byXAxis[xAxis.getValue() - 1];
     }
 
     public static double calculateDegree(Position position1, Position position2) {
@@ -56,7 +66,7 @@ public class Position {
     }
 
     public static List<Position> getAllPositions() {
-        return List.copyOf(Cache.cache);
+        return Cache.cache;
     }
 
     public boolean hasSameXAxisAs(Position other) {
@@ -91,18 +101,22 @@ public class Position {
     }
 
     public List<Position> getPositionsSameYAxisBetween(Position other) {
-        return YAxis.getBetween(this.yAxis, other.yAxis).stream()
-            .map(yAxis -> Position.of(this.xAxis, yAxis))
-            .collect(Collectors.toList());
+        return Cache.sameYAxisBetween[index][other.yAxis.getValue() - 1];
     }
 
     public List<Position> getPositionsSameXAxisBetween(Position other) {
-        return XAxis.getBetween(this.xAxis, other.xAxis).stream()
-            .map(xAxis -> Position.of(xAxis, this.yAxis))
-            .collect(Collectors.toList());
+        return Cache.sameXAxisBetween[index][other.xAxis.getValue() - 1];
     }
 
     public List<Position> getPositionsSameDirectionDiagonalBetween(Position to) {
+        List<Position> positions = Cache.diagonalBetween[index][to.index];
+        if (positions != null) {
+            return positions;
+        }
+        return calculatePositionsDiagonalBetween(to);
+    }
+
+    private List<Position> calculatePositionsDiagonalBetween(Position to) {
         int xAxisDelta = xAxis.getValue() - to.xAxis.getValue();
         int yAxisDelta = yAxis.getValue() - to.yAxis.getValue();
         int time = Math.abs(xAxisDelta);
@@ -159,30 +173,100 @@ public class Position {
         return yAxis;
     }
 
+    public int getIndex() {
+        return index;
+    }
+
     @Override
     public int hashCode() {
-        int result = xAxis != null ? xAxis.hashCode() : 0;
-        result = 31 * result + (yAxis != null ? yAxis.hashCode() : 0);
-        return result;
+        return index;
     }
 
     private static class Cache {
 
+        private static final Position[] positions = new Position[SIZE];
         private static final List<Position> cache;
+        private static final List<Position>[] byXAxis;
+        private static final List<Position>[][] sameYAxisBetween;
+        private static final List<Position>[][] sameXAxisBetween;
+        private static final List<Position>[][] diagonalBetween;
 
         static {
-            cache = Arrays.stream(XAxis.values()).
-                flatMap(xAxis -> Arrays.stream(YAxis.values())
-                    .map(yAxis -> new Position(xAxis, yAxis)))
-                .collect(Collectors.toList());
+            List<Position> allPositions = new ArrayList<>();
+            for (XAxis xAxis : XAxis.values()) {
+                for (YAxis yAxis : YAxis.values()) {
+                    Position position = new Position(xAxis, yAxis);
+                    positions[position.index] = position;
+                    allPositions.add(position);
+                }
+            }
+            cache = List.copyOf(allPositions);
+            byXAxis = initializeByXAxis();
+            sameYAxisBetween = initializeSameYAxisBetween();
+            sameXAxisBetween = initializeSameXAxisBetween();
+            diagonalBetween = initializeDiagonalBetween();
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static List<Position>[] initializeByXAxis() {
+            List<Position>[] table = new List[LINE_SIZE];
+            for (XAxis xAxis : XAxis.values()) {
+                table[xAxis.getValue() - 1] = List.of(IntStream.rangeClosed(1, LINE_SIZE)
+                    .mapToObj(yValue -> positions[indexOf(xAxis, YAxis.getByValue(yValue))])
+                    .toArray(Position[]::new));
+            }
+            return table;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static List<Position>[][] initializeSameYAxisBetween() {
+            List<Position>[][] table = new List[SIZE][LINE_SIZE];
+            for (Position position : positions) {
+                for (YAxis yAxis : YAxis.values()) {
+                    table[position.index][yAxis.getValue() - 1] = YAxis.getBetween(position.yAxis, yAxis).stream()
+                        .map(between -> positions[indexOf(position.xAxis, between)])
+                        .collect(Collectors.toUnmodifiableList());
+                }
+            }
+            return table;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static List<Position>[][] initializeSameXAxisBetween() {
+            List<Position>[][] table = new List[SIZE][LINE_SIZE];
+            for (Position position : positions) {
+                for (XAxis xAxis : XAxis.values()) {
+                    table[position.index][xAxis.getValue() - 1] = XAxis.getBetween(position.xAxis, xAxis).stream()
+                        .map(between -> positions[indexOf(between, position.yAxis)])
+                        .collect(Collectors.toUnmodifiableList());
+                }
+            }
+            return table;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static List<Position>[][] initializeDiagonalBetween() {
+            List<Position>[][] table = new List[SIZE][SIZE];
+            for (Position from : positions) {
+                for (Position to : positions) {
+                    int xAxisDelta = Math.abs(from.subtractXAxis(to));
+                    if (xAxisDelta != 0 && xAxisDelta == Math.abs(from.subtractYAxis(to))) {
+                        table[from.index][to.index] = List.copyOf(from.calculatePositionsDiagonalBetween(to));
+                    }
+                }
+            }
+            return table;
         }
 
         public static Position findByXAxisAndYAxis(XAxis xAxis, YAxis yAxis) {
-            return cache.stream()
-                .filter(position -> position.xAxis.equals(xAxis))
-                .filter(position -> position.yAxis.equals(yAxis))
-                .findFirst()
-                .orElseThrow(() -> new NoSuchElementException("좌표가 존재하지 않습니다."));
+            return positions[indexOf(xAxis, yAxis)];
+        }
+
+        public static Position findByIndex(int index) {
+            if (index < 0 || index >= SIZE) {
+                throw new NoSuchElementException("좌표가 존재하지 않습니다.");
+            }
+            return positions[index];
         }
     }
 }
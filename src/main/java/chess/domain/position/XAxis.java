@@ -1,6 +1,5 @@
 package chess.domain.position;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -15,6 +14,8 @@ public enum XAxis {
     G(7),
     H(8);
 
+    private static final XAxis[] VALUES = values();
+
     private final int value;
 
     XAxis(int value) {
@@ -22,10 +23,10 @@ public enum XAxis {
     }
 
     public static XAxis getByValue(int value) {
-        return Arrays.stream(XAxis.values())
-                .filter(xAxis -> xAxis.value == value)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 X좌표입니다."));
+        if (value < 1 || value > VALUES.length) {
+            throw new IllegalArgumentException("존재하지 않는 X좌표입니다.");
+        }
+        return VALUES[value - 1];
     }
 
     public static XAxis getByValue(String value) {
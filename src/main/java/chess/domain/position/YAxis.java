@@ -1,6 +1,5 @@
 package chess.domain.position;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -15,6 +14,8 @@ public enum YAxis {
     SEVEN(7),
     EIGHT(8);
 
+    private static final YAxis[] VALUES = values();
+
     private final int value;
 
     YAxis(int value) {
@@ -22,10 +23,10 @@ public enum YAxis {
     }
 
     public static YAxis getByValue(int value) {
-        return Arrays.stream(YAxis.values())
-                .filter(yAxis -> yAxis.value == value)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 Y좌표입니다."));
+        if (value < 1 || value > VALUES.length) {
+            throw new IllegalArgumentException("존재하지 않는 Y좌표입니다.");
+        }
+        return VALUES[value - 1];
     }
 
     public static YAxis getByValue(String value) {
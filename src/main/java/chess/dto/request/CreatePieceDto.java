@@ -47,6 +47,14 @@ public class CreatePieceDto {
         return pieceColor.name();
     }
 
+    public Position getPosition() {
+        return Position.of(xAxis, yAxis);
+    }
+
+    public Piece getPiece() {
+        return new Piece(pieceType, pieceColor);
+    }
+
     @Override
     public String toString() {
         return "CreatePieceDto{" +
@@ -0,0 +1,34 @@
+package chess.dto.request;
+
+public class CreateRoomsDto {
+    private final String name;
+    private final String password;
+    private final int count;
+
+    public CreateRoomsDto(String name, String password, int count) {
+        this.name = name;
+        this.password = password;
+        this.count = count;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return "CreateRoomsDto{" +
+            "name='" + name + '\'' +
+            ", password='" + password + '\'' +
+            ", count=" + count +
+            '}';
+    }
+}
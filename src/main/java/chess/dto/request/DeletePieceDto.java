@@ -31,6 +31,10 @@ public class DeletePieceDto {
         return yAxis.getValueAsString();
     }
 
+    public Position getPosition() {
+        return Position.of(xAxis, yAxis);
+    }
+
     @Override
     public String toString() {
         return "DeletePieceDto{" +
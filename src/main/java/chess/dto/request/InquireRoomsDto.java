@@ -0,0 +1,62 @@
+package chess.dto.request;
+
+import java.util.Optional;
+
+import chess.domain.game.GameStatus;
+
+public class InquireRoomsDto {
+    public static final int MAX_LIMIT = 100;
+    private static final String ERROR_MESSAGE_INVALID_AFTER = "after 는 0 이상이어야 합니다.";
+    private static final String ERROR_MESSAGE_INVALID_LIMIT = "한 번에 조회할 수 있는 방의 수는 1개 이상 %d개 이하입니다.";
+
+    private final int after;
+    private final int limit;
+    private final GameStatus status;
+    private final String namePrefix;
+
+    private InquireRoomsDto(int after, int limit, GameStatus status, String namePrefix) {
+        this.after = after;
+        this.limit = limit;
+        this.status = status;
+        this.namePrefix = namePrefix;
+    }
+
+    public static InquireRoomsDto of(int after, int limit, GameStatus status, String namePrefix) {
+        if (after < 0) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_INVALID_AFTER);
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException(String.format(ERROR_MESSAGE_INVALID_LIMIT, MAX_LIMIT));
+        }
+        if (namePrefix != null && namePrefix.isEmpty()) {
+            namePrefix = null;
+        }
+        return new InquireRoomsDto(after, limit, status, namePrefix);
+    }
+
+    public int getAfter() {
+        return after;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public Optional<GameStatus> getStatus() {
+        return Optional.ofNullable(status);
+    }
+
+    public Optional<String> getNamePrefix() {
+        return Optional.ofNullable(namePrefix);
+    }
+
+    @Override
+    public String toString() {
+        return "InquireRoomsDto{" +
+            "after=" + after +
+            ", limit=" + limit +
+            ", status=" + status +
+            ", namePrefix='" + namePrefix + '\'' +
+            '}';
+    }
+}
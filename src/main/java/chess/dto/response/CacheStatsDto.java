@@ -0,0 +1,48 @@
+package chess.dto.response;
+
+import chess.service.GameCache;
+
+public class CacheStatsDto {
+    private final int size;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    public CacheStatsDto(int size, long hitCount, long missCount, long evictionCount) {
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    public static CacheStatsDto from(GameCache gameCache) {
+        return new CacheStatsDto(gameCache.size(), gameCache.getHitCount(), gameCache.getMissCount(),
+            gameCache.getEvictionCount());
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatsDto{" +
+            "size=" + size +
+            ", hitCount=" + hitCount +
+            ", missCount=" + missCount +
+            ", evictionCount=" + evictionCount +
+            '}';
+    }
+}
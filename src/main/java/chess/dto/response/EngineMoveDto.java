@@ -0,0 +1,69 @@
+package chess.dto.response;
+
+import java.util.concurrent.TimeUnit;
+
+import chess.domain.engine.SearchResult;
+
+public class EngineMoveDto {
+    private final String from;
+    private final String to;
+    private final int depth;
+    private final long nodes;
+    private final long nodesPerSecond;
+    private final long elapsedMillis;
+
+    private EngineMoveDto(String from, String to, int depth, long nodes, long nodesPerSecond, long elapsedMillis) {
+        this.from = from;
+        this.to = to;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.nodesPerSecond = nodesPerSecond;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public static EngineMoveDto from(SearchResult searchResult) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(searchResult.getElapsedNanos());
+        if (!searchResult.hasMove()) {
+            return new EngineMoveDto(null, null, searchResult.getDepth(), searchResult.getNodes(),
+                searchResult.getNodesPerSecond(), elapsedMillis);
+        }
+        return new EngineMoveDto(searchResult.getFrom().toCoordinate(), searchResult.getTo().toCoordinate(),
+            searchResult.getDepth(), searchResult.getNodes(), searchResult.getNodesPerSecond(), elapsedMillis);
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getNodesPerSecond() {
+        return nodesPerSecond;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "EngineMoveDto{" +
+            "from='" + from + '\'' +
+            ", to='" + to + '\'' +
+            ", depth=" + depth +
+            ", nodes=" + nodes +
+            ", nodesPerSecond=" + nodesPerSecond +
+            ", elapsedMillis=" + elapsedMillis +
+            '}';
+    }
+}
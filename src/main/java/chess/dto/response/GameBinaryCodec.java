@@ -0,0 +1,85 @@
+package chess.dto.response;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import chess.domain.board.BoardCodec;
+import chess.domain.board.UndoRecord;
+import chess.domain.piece.PieceColor;
+import chess.domain.position.Position;
+import chess.dto.request.MovePieceDto;
+
+public class GameBinaryCodec {
+    public static final int MOVE_SIZE = Short.BYTES;
+    public static final int GAME_SIZE = Integer.BYTES + Byte.BYTES + Short.BYTES * 2 + BoardCodec.ENCODED_SIZE;
+    public static final int MOVE_DELTA_SIZE = Integer.BYTES + MOVE_SIZE + Byte.BYTES * 2 + Short.BYTES * 2;
+
+    private static final int SQUARE_BITS = 6;
+    private static final int SQUARE_MASK = (1 << SQUARE_BITS) - 1;
+    private static final int NIBBLE_BITS = 4;
+    private static final int BLACK_TURN = 1;
+    private static final int RESULT_SHIFT = 1;
+    private static final int HALF_POINTS_PER_POINT = 2;
+    private static final List<String> RESULTS = Arrays.asList(null, PieceColor.WHITE.name(),
+        PieceColor.BLACK.name(), GameDto.DRAW);
+
+    public static byte[] encode(GameDto gameDto) {
+        ByteBuffer buffer = ByteBuffer.allocate(GAME_SIZE);
+        buffer.putInt(gameDto.getVersion());
+        buffer.put(encodeState(gameDto.getTurn(), gameDto.getResult()));
+        putScores(buffer, gameDto.getWhiteScore(), gameDto.getBlackScore());
+        buffer.put(gameDto.getBoardState());
+        return buffer.array();
+    }
+
+    public static byte[] encode(MoveDeltaDto moveDeltaDto) {
+        int undo = moveDeltaDto.getUndo();
+        ByteBuffer buffer = ByteBuffer.allocate(MOVE_DELTA_SIZE);
+        buffer.putInt(moveDeltaDto.getVersion());
+        buffer.putShort(encodeMove(UndoRecord.from(undo), UndoRecord.to(undo)));
+        buffer.put((byte)(toNibble(moveDeltaDto.getPieceKind()) << NIBBLE_BITS
+            | toNibble(UndoRecord.capturedKind(undo))));
+        buffer.put(encodeState(moveDeltaDto.getTurn(), moveDeltaDto.getResult()));
+        putScores(buffer, moveDeltaDto.getWhiteScore(), moveDeltaDto.getBlackScore());
+        return buffer.array();
+    }
+
+    public static byte[] encodeMove(Position from, Position to) {
+        return ByteBuffer.allocate(MOVE_SIZE).putShort(encodeMove(from.getIndex(), to.getIndex())).array();
+    }
+
+    public static MovePieceDto decodeMove(byte[] encoded) {
+        if (encoded.length != MOVE_SIZE) {
+            throw new IllegalArgumentException("수는 " + MOVE_SIZE + "바이트로 표현해야 합니다.");
+        }
+
+        int move = ByteBuffer.wrap(encoded).getShort() & 0xFFFF;
+        if (move >>> SQUARE_BITS * 2 != 0) {
+            throw new IllegalArgumentException("잘못된 수 데이터입니다.");
+        }
+        return new MovePieceDto(Position.ofIndex(move >>> SQUARE_BITS).toCoordinate(),
+            Position.ofIndex(move & SQUARE_MASK).toCoordinate());
+    }
+
+    private static short encodeMove(int from, int to) {
+        return (short)(from << SQUARE_BITS | to);
+    }
+
+    private static int toNibble(int kind) {
+        return kind + 1;
+    }
+
+    private static byte encodeState(String turn, String result) {
+        int state = RESULTS.indexOf(result) << RESULT_SHIFT;
+        if (PieceColor.BLACK.name().equals(turn)) {
+            state |= BLACK_TURN;
+        }
+        return (byte)state;
+    }
+
+    private static void putScores(ByteBuffer buffer, double whiteScore, double blackScore) {
+        buffer.putShort((short)Math.round(whiteScore * HALF_POINTS_PER_POINT));
+        buffer.putShort((short)Math.round(blackScore * HALF_POINTS_PER_POINT));
+    }
+}
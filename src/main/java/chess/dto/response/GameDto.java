@@ -0,0 +1,109 @@
+package chess.dto.response;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import chess.domain.board.Board;
+import chess.domain.board.BoardCodec;
+import chess.domain.game.ChessGame;
+import chess.domain.game.GameResult;
+import chess.domain.game.score.ScoreResult;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceColor;
+import chess.domain.position.Position;
+
+public class GameDto {
+    private static final String PIECE_NAME_FORMAT = "%s_%s";
+    static final String DRAW = "DRAW";
+
+    private final int version;
+    private final byte[] boardState;
+    private final Map<String, String> board;
+    private final String turn;
+    private final double whiteScore;
+    private final double blackScore;
+    private final String result;
+
+    private GameDto(int version, byte[] boardState, Map<String, String> board, String turn, double whiteScore,
+        double blackScore, String result) {
+        this.version = version;
+        this.boardState = boardState;
+        this.board = board;
+        this.turn = turn;
+        this.whiteScore = whiteScore;
+        this.blackScore = blackScore;
+        this.result = result;
+    }
+
+    public static GameDto from(ChessGame chessGame) {
+        Board board = chessGame.getBoard();
+        ScoreResult scoreResult = new ScoreResult(board);
+        return new GameDto(chessGame.getVersion(), BoardCodec.encode(board), toRaw(board), chessGame.getCurrentTurn().name(),
+            scoreResult.getValueByPieceColor(PieceColor.WHITE), scoreResult.getValueByPieceColor(PieceColor.BLACK),
+            resultOf(chessGame.getResult()));
+    }
+
+    private static Map<String, String> toRaw(Board board) {
+        Map<String, String> coordinateAndPiece = new HashMap<>();
+        for (Map.Entry<Position, Piece> entry : board.getValue().entrySet()) {
+            coordinateAndPiece.put(entry.getKey().toCoordinate(), pieceNameOf(entry.getValue()));
+        }
+        return coordinateAndPiece;
+    }
+
+    static String pieceNameOf(Piece piece) {
+        if (piece == null) {
+            return null;
+        }
+        return String.format(PIECE_NAME_FORMAT, piece.getPieceType().name(), piece.getPieceColor().name());
+    }
+
+    static String resultOf(GameResult gameResult) {
+        if (gameResult == GameResult.DRAW) {
+            return DRAW;
+        }
+        if (!gameResult.isEnd()) {
+            return null;
+        }
+        return gameResult.getWinColor().name();
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    byte[] getBoardState() {
+        return boardState;
+    }
+
+    public Map<String, String> getBoard() {
+        return board;
+    }
+
+    public String getTurn() {
+        return turn;
+    }
+
+    public double getWhiteScore() {
+        return whiteScore;
+    }
+
+    public double getBlackScore() {
+        return blackScore;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "GameDto{" +
+            "version=" + version +
+            ", turn='" + turn + '\'' +
+            ", whiteScore=" + whiteScore +
+            ", blackScore=" + blackScore +
+            ", result='" + result + '\'' +
+            '}';
+    }
+}
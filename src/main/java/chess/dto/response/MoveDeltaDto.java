@@ -0,0 +1,122 @@
+package chess.dto.response;
+
+import chess.domain.board.BitBoard;
+import chess.domain.board.Board;
+import chess.domain.board.UndoRecord;
+import chess.domain.game.ChessGame;
+import chess.domain.game.GameResult;
+import chess.domain.game.score.ScoreResult;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceColor;
+
+public class MoveDeltaDto {
+    private final int gameId;
+    private final int version;
+    private final int undo;
+    private final int pieceKind;
+    private final String from;
+    private final String to;
+    private final String piece;
+    private final String capturedPiece;
+    private final String turn;
+    private final double whiteScore;
+    private final double blackScore;
+    private final boolean end;
+    private final String result;
+
+    private MoveDeltaDto(int gameId, int version, int undo, int pieceKind, String from, String to, String piece,
+        String capturedPiece, String turn, double whiteScore, double blackScore, boolean end, String result) {
+        this.gameId = gameId;
+        this.version = version;
+        this.undo = undo;
+        this.pieceKind = pieceKind;
+        this.from = from;
+        this.to = to;
+        this.piece = piece;
+        this.capturedPiece = capturedPiece;
+        this.turn = turn;
+        this.whiteScore = whiteScore;
+        this.blackScore = blackScore;
+        this.end = end;
+        this.result = result;
+    }
+
+    public static MoveDeltaDto of(int gameId, ChessGame chessGame, int undo, GameResult gameResult) {
+        Board board = chessGame.getBoard();
+        ScoreResult scoreResult = new ScoreResult(board);
+        String result = GameDto.resultOf(gameResult);
+        Piece piece = board.pieceAt(UndoRecord.to(undo));
+        return new MoveDeltaDto(gameId, chessGame.getVersion(), undo, BitBoard.kindOf(piece),
+            UndoRecord.fromPosition(undo).toCoordinate(), UndoRecord.toPosition(undo).toCoordinate(),
+            GameDto.pieceNameOf(piece),
+            GameDto.pieceNameOf(UndoRecord.capturedPiece(undo)), chessGame.getCurrentTurn().name(),
+            scoreResult.getValueByPieceColor(PieceColor.WHITE), scoreResult.getValueByPieceColor(PieceColor.BLACK),
+            result != null, result);
+    }
+
+    public int getGameId() {
+        return gameId;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    int getUndo() {
+        return undo;
+    }
+
+    int getPieceKind() {
+        return pieceKind;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public String getPiece() {
+        return piece;
+    }
+
+    public String getCapturedPiece() {
+        return capturedPiece;
+    }
+
+    public String getTurn() {
+        return turn;
+    }
+
+    public double getWhiteScore() {
+        return whiteScore;
+    }
+
+    public double getBlackScore() {
+        return blackScore;
+    }
+
+    public boolean isEnd() {
+        return end;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "MoveDeltaDto{" +
+            "gameId=" + gameId +
+            ", version=" + version +
+            ", from='" + from + '\'' +
+            ", to='" + to + '\'' +
+            ", piece='" + piece + '\'' +
+            ", capturedPiece='" + capturedPiece + '\'' +
+            ", turn='" + turn + '\'' +
+            ", end=" + end +
+            '}';
+    }
+}
@@ -0,0 +1,64 @@
+package chess.dto.response;
+
+import chess.service.GameEventBroker;
+
+public class PushStatsDto {
+    private final long subscriberCount;
+    private final long publishedCount;
+    private final long sentMessageCount;
+    private final long sentByteCount;
+    private final long droppedCount;
+    private final long timedOutCount;
+
+    public PushStatsDto(long subscriberCount, long publishedCount, long sentMessageCount, long sentByteCount,
+        long droppedCount, long timedOutCount) {
+        this.subscriberCount = subscriberCount;
+        this.publishedCount = publishedCount;
+        this.sentMessageCount = sentMessageCount;
+        this.sentByteCount = sentByteCount;
+        this.droppedCount = droppedCount;
+        this.timedOutCount = timedOutCount;
+    }
+
+    public static PushStatsDto from(GameEventBroker gameEventBroker) {
+        return new PushStatsDto(gameEventBroker.getSubscriberCount(), gameEventBroker.getPublishedCount(),
+            gameEventBroker.getSentMessageCount(), gameEventBroker.getSentByteCount(),
+            gameEventBroker.getDroppedCount(), gameEventBroker.getTimedOutCount());
+    }
+
+    public long getSubscriberCount() {
+        return subscriberCount;
+    }
+
+    public long getPublishedCount() {
+        return publishedCount;
+    }
+
+    public long getSentMessageCount() {
+        return sentMessageCount;
+    }
+
+    public long getSentByteCount() {
+        return sentByteCount;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    public long getTimedOutCount() {
+        return timedOutCount;
+    }
+
+    @Override
+    public String toString() {
+        return "PushStatsDto{" +
+            "subscriberCount=" + subscriberCount +
+            ", publishedCount=" + publishedCount +
+            ", sentMessageCount=" + sentMessageCount +
+            ", sentByteCount=" + sentByteCount +
+            ", droppedCount=" + droppedCount +
+            ", timedOutCount=" + timedOutCount +
+            '}';
+    }
+}
@@ -4,13 +4,13 @@ public class Room {
     private final int id;
     private final String turn;
     private final String name;
-    private final String password;
+    private final String status;
 
-    public Room(int id, String turn, String name, String password) {
+    public Room(int id, String turn, String name, String status) {
         this.id = id;
         this.turn = turn;
         this.name = name;
-        this.password = password;
+        this.status = status;
     }
 
     public int getId() {
@@ -25,7 +25,7 @@ public class Room {
         return name;
     }
 
-    public String getPassword() {
-        return password;
+    public String getStatus() {
+        return status;
     }
 }
@@ -1,79 +1,173 @@
 package chess.service;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map.Entry;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import chess.dao.BoardDao;
 import chess.dao.GameDao;
 import chess.domain.board.Board;
 import chess.domain.game.ChessGame;
+import chess.domain.game.GameResult;
+import chess.domain.game.GameStatus;
 import chess.domain.game.score.ScoreResult;
-import chess.domain.piece.Piece;
 import chess.domain.piece.PieceColor;
-import chess.domain.position.Position;
-import chess.dto.request.CreatePieceDto;
-import chess.dto.request.DeletePieceDto;
+import chess.dto.request.InquireRoomsDto;
 import chess.dto.request.UpdatePiecePositionDto;
+import chess.dto.response.MoveDeltaDto;
 import chess.entity.Room;
 
 @Service
 public class ChessService {
     private static final String ERROR_MESSAGE_NOT_END_GAME = "게임이 아직 안끝났습니다!";
     public static final String ERROR_MESSAGE_NOT_EQUAL_PASSWORD = "비밀번호가 일치하지 않습니다!";
+    private static final String ERROR_MESSAGE_INVALID_ROOM_COUNT = "한 번에 생성할 수 있는 방의 수는 1개 이상 %d개 이하입니다.";
+    private static final int MAX_BULK_ROOM_COUNT = 100;
     private final GameDao gameDao;
     private final BoardDao boardDao;
+    private final GameCache gameCache;
+    private final LobbyService lobbyService;
+    private final GameEventBroker gameEventBroker;
 
-    public ChessService(GameDao gameDao, BoardDao boardDao) {
+    public ChessService(GameDao gameDao, BoardDao boardDao, GameCache gameCache, LobbyService lobbyService,
+        GameEventBroker gameEventBroker) {
         this.gameDao = gameDao;
         this.boardDao = boardDao;
+        this.gameCache = gameCache;
+        this.lobbyService = lobbyService;
+        this.gameEventBroker = gameEventBroker;
     }
 
+    @Transactional
     public int createGameAndGetId(String gameName, String gamePassword) {
-        int id = gameDao.createGameAndGetId(gameName, gamePassword);
-        createBoard(id);
-        return id;
+        return createGamesAndGetIds(gameName, gamePassword, 1).get(0);
     }
 
-    private void createBoard(int id) {
-        Board initializedBoard = Board.createInitializedBoard();
+    @Transactional
+    public List<Integer> createGamesAndGetIds(String gameName, String gamePassword, int count) {
+        validateRoomCount(count);
 
-        for (Entry<Position, Piece> entry : initializedBoard.getValue().entrySet()) {
-            CreatePieceDto createPieceDto = CreatePieceDto.of(id, entry.getKey(), entry.getValue());
-            boardDao.createPiece(createPieceDto);
+        List<Integer> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(gameDao.createGameAndGetId(gameName, gamePassword));
         }
+        boardDao.createBoards(ids, Board.createInitializedBoard());
+
+        List<Room> rooms = new ArrayList<>(count);
+        for (int id : ids) {
+            rooms.add(new Room(id, PieceColor.WHITE.name(), gameName, GameStatus.PLAYING.name()));
+        }
+        afterCommit(() -> lobbyService.roomsCreated(rooms));
+        return ids;
     }
 
-    public void movePiece(UpdatePiecePositionDto updatePiecePositionDto) {
+    private void validateRoomCount(int count) {
+        if (count < 1 || count > MAX_BULK_ROOM_COUNT) {
+            throw new IllegalArgumentException(String.format(ERROR_MESSAGE_INVALID_ROOM_COUNT, MAX_BULK_ROOM_COUNT));
+        }
+    }
+
+    @Transactional
+    public MoveDeltaDto movePiece(UpdatePiecePositionDto updatePiecePositionDto) {
         int gameId = updatePiecePositionDto.getGameId();
 
         ChessGame chessGame = generateChessGame(gameId);
-        chessGame.movePiece(updatePiecePositionDto.getFrom(), updatePiecePositionDto.getTo());
+        int undo = chessGame.movePiece(updatePiecePositionDto.getFrom(), updatePiecePositionDto.getTo());
+
+        if (!boardDao.movePiece(updatePiecePositionDto, chessGame)) {
+            gameCache.invalidate(gameId);
+            throw new MoveConflictException();
+        }
+        GameResult gameResult = chessGame.getResult();
+        MoveDeltaDto moveDelta = MoveDeltaDto.of(gameId, chessGame, undo, gameResult);
+        finishIfEnd(gameId, gameResult);
+        cacheAfterCommit(gameId, chessGame);
+        afterCommit(() -> publish(moveDelta));
+        return moveDelta;
+    }
+
+    @Transactional
+    public List<MoveOutcome> movePieces(int gameId, List<UpdatePiecePositionDto> updatePiecePositionDtos) {
+        List<MoveOutcome> outcomes = new ArrayList<>(updatePiecePositionDtos.size());
+        ChessGame chessGame = generateChessGame(gameId);
+        GameResult gameResult = GameResult.PLAYING;
+        boolean isConflicted = false;
+        for (UpdatePiecePositionDto updatePiecePositionDto : updatePiecePositionDtos) {
+            if (isConflicted) {
+                outcomes.add(MoveOutcome.failed(new MoveConflictException()));
+                continue;
+            }
+            int undo;
+            try {
+                undo = chessGame.movePiece(updatePiecePositionDto.getFrom(), updatePiecePositionDto.getTo());
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                outcomes.add(MoveOutcome.failed(e));
+                continue;
+            }
+            isConflicted = !boardDao.movePiece(updatePiecePositionDto, chessGame);
+            if (isConflicted) {
+                outcomes.add(MoveOutcome.failed(new MoveConflictException()));
+                continue;
+            }
+            gameResult = chessGame.getResult();
+            outcomes.add(MoveOutcome.applied(MoveDeltaDto.of(gameId, chessGame, undo, gameResult)));
+        }
+
+        afterCommit(() -> publish(outcomes));
+        if (isConflicted) {
+            gameCache.invalidate(gameId);
+            return outcomes;
+        }
+        finishIfEnd(gameId, gameResult);
+        cacheAfterCommit(gameId, chessGame);
+        return outcomes;
+    }
+
+    private void publish(List<MoveOutcome> outcomes) {
+        for (MoveOutcome outcome : outcomes) {
+            if (outcome.isApplied()) {
+                publish(outcome.getMoveDelta());
+            }
+        }
+    }
 
-        updateGameTurn(gameId, chessGame);
-        updatePiecePosition(updatePiecePositionDto, gameId);
+    private void publish(MoveDeltaDto moveDelta) {
+        gameEventBroker.publish(moveDelta);
+        lobbyService.turnChanged(moveDelta);
+    }
+
+    private void finishIfEnd(int gameId, GameResult gameResult) {
+        if (gameResult.isEnd()) {
+            gameDao.finishGame(gameId);
+            afterCommit(() -> lobbyService.roomFinished(gameId));
+        }
     }
 
-    private void updatePiecePosition(UpdatePiecePositionDto updatePiecePositionDto, int gameId) {
-        boardDao.deletePiece(DeletePieceDto.of(gameId, updatePiecePositionDto.getTo()));
-        boardDao.updatePiecePosition(updatePiecePositionDto);
+    private void cacheAfterCommit(int gameId, ChessGame chessGame) {
+        afterCommit(() -> gameCache.put(gameId, chessGame));
     }
 
-    private void updateGameTurn(int gameId, ChessGame chessGame) {
-        if (chessGame.isWhiteTurn()) {
-            gameDao.updateTurnToWhite(gameId);
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
             return;
         }
 
-        gameDao.updateTurnToBlack(gameId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     public PieceColor getCurrentTurn(int gameId) {
-        if (generateChessGame(gameId).isWhiteTurn()) {
-            return PieceColor.WHITE;
-        }
-        return PieceColor.BLACK;
+        return generateChessGame(gameId).getCurrentTurn();
     }
 
     public ScoreResult getScore(int gameId) {
@@ -85,19 +179,24 @@ public class ChessService {
         return chessGame.getWinColor();
     }
 
-    private ChessGame generateChessGame(int gameId) {
-        Board board = boardDao.getBoard(gameId);
-        PieceColor gameTurn = gameDao.getGameTurn(gameId);
+    public ChessGame getChessGame(int gameId) {
+        return generateChessGame(gameId);
+    }
 
-        return ChessGame.of(board, gameTurn);
+    public int getVersion(int gameId) {
+        return gameCache.getVersion(gameId, boardDao::getVersion);
+    }
+
+    private ChessGame generateChessGame(int gameId) {
+        return gameCache.get(gameId, boardDao::getChessGame);
     }
 
     public Board getBoard(int gameId) {
-        return boardDao.getBoard(gameId);
+        return generateChessGame(gameId).getBoard();
     }
 
-    public List<Room> getRooms() {
-        return gameDao.inquireAllRooms();
+    public void inquireRooms(InquireRoomsDto inquireRoomsDto, Consumer<Room> roomConsumer) {
+        lobbyService.inquireRooms(inquireRoomsDto).forEach(roomConsumer);
     }
 
     public void deleteRoom(int gameId, String inputPassword) {
@@ -105,6 +204,9 @@ public class ChessService {
         checkGameIsEnd(gameId);
         boardDao.deletePieces(gameId);
         gameDao.deleteGame(gameId);
+        gameCache.invalidate(gameId);
+        lobbyService.roomDeleted(gameId);
+        gameEventBroker.closeGame(gameId);
     }
 
     private void checkGameIsEnd(int gameId) {
@@ -125,6 +227,9 @@ public class ChessService {
         return "ChessService{" +
             "gameDao=" + gameDao +
             ", boardDao=" + boardDao +
+            ", gameCache=" + gameCache +
+            ", lobbyService=" + lobbyService +
+            ", gameEventBroker=" + gameEventBroker +
             '}';
     }
 
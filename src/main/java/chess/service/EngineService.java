@@ -0,0 +1,127 @@
+package chess.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import chess.domain.engine.ParallelSearcher;
+import chess.domain.engine.SearchResult;
+import chess.domain.engine.TranspositionTable;
+import chess.domain.game.ChessGame;
+import chess.dto.request.UpdatePiecePositionDto;
+
+@Service
+public class EngineService {
+    private static final String THREAD_NAME_PREFIX = "chess-engine-";
+    private static final String HELPER_THREAD_NAME_PREFIX = "chess-engine-helper-";
+
+    private final ChessService chessService;
+    private final ExecutorService searchExecutor;
+    private final ExecutorService helperExecutor;
+    private final ParallelSearcher parallelSearcher;
+    private final AtomicInteger activeSearches = new AtomicInteger();
+    private final Semaphore searchSlots;
+    private final int searchThreads;
+    private final long timeBudgetMillis;
+    private final int maxDepth;
+
+    public EngineService(ChessService chessService,
+        @Value("${chess.engine.threads:0}") int threads,
+        @Value("${chess.engine.search-threads:0}") int searchThreads,
+        @Value("${chess.engine.hash-entries:1048576}") int hashEntries,
+        @Value("${chess.engine.time-budget-millis:500}") long timeBudgetMillis,
+        @Value("${chess.engine.max-depth:64}") int maxDepth) {
+        this.chessService = chessService;
+        this.searchThreads = resolveSearchThreads(searchThreads);
+        this.searchExecutor = Executors.newFixedThreadPool(resolveThreads(threads),
+            createThreadFactory(THREAD_NAME_PREFIX));
+        this.searchSlots = new Semaphore(this.searchThreads);
+        this.helperExecutor = Executors.newFixedThreadPool(Math.max(1, this.searchThreads - 1),
+            createThreadFactory(HELPER_THREAD_NAME_PREFIX));
+        this.parallelSearcher = new ParallelSearcher(new TranspositionTable(hashEntries), helperExecutor);
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.maxDepth = maxDepth;
+    }
+
+    private static int resolveThreads(int threads) {
+        if (threads > 0) {
+            return threads;
+        }
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    private static int resolveSearchThreads(int searchThreads) {
+        if (searchThreads > 0) {
+            return searchThreads;
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    private static ThreadFactory createThreadFactory(String threadNamePrefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public CompletableFuture<SearchResult> movePieceAndReply(UpdatePiecePositionDto updatePiecePositionDto) {
+        chessService.movePiece(updatePiecePositionDto);
+        int gameId = updatePiecePositionDto.getGameId();
+        return CompletableFuture.supplyAsync(() -> reply(gameId), searchExecutor);
+    }
+
+    private SearchResult reply(int gameId) {
+        ChessGame chessGame = chessService.getChessGame(gameId);
+        if (chessGame.isEnd()) {
+            return new SearchResult(SearchResult.NO_MOVE, 0, 0, 0, 0);
+        }
+
+        SearchResult searchResult = search(chessGame);
+        if (searchResult.hasMove()) {
+            chessService.movePiece(
+                UpdatePiecePositionDto.of(gameId, searchResult.getFrom(), searchResult.getTo()));
+        }
+        return searchResult;
+    }
+
+    private SearchResult search(ChessGame chessGame) {
+        int concurrentSearches = activeSearches.incrementAndGet();
+        searchSlots.acquireUninterruptibly();
+        int helpers = acquireHelperSlots(Math.max(1, searchThreads / concurrentSearches) - 1);
+        try {
+            return parallelSearcher.search(chessGame.getBoard(), chessGame.getCurrentTurn(), timeBudgetMillis,
+                maxDepth, 1 + helpers);
+        } finally {
+            searchSlots.release(1 + helpers);
+            activeSearches.decrementAndGet();
+        }
+    }
+
+    private int acquireHelperSlots(int wantedHelpers) {
+        int helpers = 0;
+        while (helpers < wantedHelpers && searchSlots.tryAcquire()) {
+            helpers++;
+        }
+        return helpers;
+    }
+
+    public int getAvailableSearchSlots() {
+        return searchSlots.availablePermits();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        searchExecutor.shutdownNow();
+        helperExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,146 @@
+package chess.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import chess.domain.game.ChessGame;
+
+@Component
+public class GameCache {
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Map<Integer, Entry> entries;
+    private final int maximumSize;
+    private final long expireAfterAccessNanos;
+    private final LongSupplier ticker;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    @Autowired
+    public GameCache(@Value("${chess.cache.maximum-size:10000}") int maximumSize,
+        @Value("${chess.cache.expire-after-access-millis:600000}") long expireAfterAccessMillis) {
+        this(maximumSize, expireAfterAccessMillis, System::nanoTime);
+    }
+
+    GameCache(int maximumSize, long expireAfterAccessMillis, LongSupplier ticker) {
+        this.maximumSize = maximumSize;
+        this.expireAfterAccessNanos = TimeUnit.MILLISECONDS.toNanos(expireAfterAccessMillis);
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<>(16, LOAD_FACTOR, true);
+    }
+
+    public ChessGame get(int gameId, IntFunction<ChessGame> loader) {
+        ChessGame cached = find(gameId);
+        if (cached != null) {
+            hitCount.increment();
+            return cached.copy();
+        }
+
+        missCount.increment();
+        ChessGame loaded = loader.apply(gameId);
+        put(gameId, loaded);
+        return loaded.copy();
+    }
+
+    public int getVersion(int gameId, IntUnaryOperator loader) {
+        ChessGame cached = find(gameId);
+        if (cached != null) {
+            return cached.getVersion();
+        }
+        return loader.applyAsInt(gameId);
+    }
+
+    private synchronized ChessGame find(int gameId) {
+        Entry entry = entries.get(gameId);
+        if (entry == null) {
+            return null;
+        }
+
+        long now = ticker.getAsLong();
+        if (entry.isExpired(now, expireAfterAccessNanos)) {
+            entries.remove(gameId);
+            evictionCount.increment();
+            return null;
+        }
+        entry.lastAccess = now;
+        return entry.chessGame;
+    }
+
+    public synchronized void put(int gameId, ChessGame chessGame) {
+        Entry entry = entries.get(gameId);
+        if (entry != null && entry.chessGame.getVersion() > chessGame.getVersion()) {
+            return;
+        }
+
+        entries.put(gameId, new Entry(chessGame, ticker.getAsLong()));
+        evict();
+    }
+
+    private void evict() {
+        long now = ticker.getAsLong();
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry eldest = iterator.next();
+            if (entries.size() <= maximumSize && !eldest.isExpired(now, expireAfterAccessNanos)) {
+                return;
+            }
+            iterator.remove();
+            evictionCount.increment();
+        }
+    }
+
+    public synchronized void invalidate(int gameId) {
+        entries.remove(gameId);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "GameCache{" +
+            "maximumSize=" + maximumSize +
+            ", hitCount=" + getHitCount() +
+            ", missCount=" + getMissCount() +
+            ", evictionCount=" + getEvictionCount() +
+            '}';
+    }
+
+    private static class Entry {
+        private final ChessGame chessGame;
+        private long lastAccess;
+
+        private Entry(ChessGame chessGame, long lastAccess) {
+            this.chessGame = chessGame;
+            this.lastAccess = lastAccess;
+        }
+
+        private boolean isExpired(long now, long expireAfterAccessNanos) {
+            return now - lastAccess >= expireAfterAccessNanos;
+        }
+    }
+}
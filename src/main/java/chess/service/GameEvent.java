@@ -0,0 +1,69 @@
+package chess.service;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class GameEvent {
+    private final String name;
+    private final byte[] payload;
+    private final byte[] compactPayload;
+
+    private GameEvent(String name, byte[] payload, byte[] compactPayload) {
+        this.name = name;
+        this.payload = payload;
+        this.compactPayload = compactPayload;
+    }
+
+    public static GameEvent of(ObjectMapper objectMapper, String name, Object data, int code, byte[] compactData) {
+        Map<String, Object> frame = new LinkedHashMap<>();
+        frame.put("event", name);
+        frame.put("data", data);
+        byte[] compactPayload = ByteBuffer.allocate(Byte.BYTES + compactData.length)
+            .put((byte)code)
+            .put(compactData)
+            .array();
+        try {
+            return new GameEvent(name, objectMapper.writeValueAsBytes(frame), compactPayload);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ByteBuffer getPayload() {
+        return ByteBuffer.wrap(payload).asReadOnlyBuffer();
+    }
+
+    byte[] getPayloadBytes() {
+        return payload;
+    }
+
+    public int getPayloadLength() {
+        return payload.length;
+    }
+
+    public ByteBuffer getCompactPayload() {
+        return ByteBuffer.wrap(compactPayload).asReadOnlyBuffer();
+    }
+
+    public int getCompactPayloadLength() {
+        return compactPayload.length;
+    }
+
+    @Override
+    public String toString() {
+        return "GameEvent{" +
+            "name='" + name + '\'' +
+            ", payloadLength=" + payload.length +
+            ", compactPayloadLength=" + compactPayload.length +
+            '}';
+    }
+}
@@ -0,0 +1,329 @@
+package chess.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import chess.dto.response.GameBinaryCodec;
+import chess.dto.response.MoveDeltaDto;
+
+@Service
+public class GameEventBroker {
+    public static final String MOVE = "move";
+    public static final String RESYNC = "resync";
+    public static final int MOVE_CODE = 1;
+    public static final int RESYNC_CODE = 2;
+    public static final int NOTICE_CODE = 3;
+
+    private static final String THREAD_NAME_PREFIX = "chess-game-events-";
+    private static final String WATCHDOG_THREAD_NAME = "chess-game-events-watchdog";
+    private static final long NO_TIMEOUT = 0L;
+    private static final long IDLE = Long.MIN_VALUE;
+    private static final long ABANDONED = Long.MIN_VALUE + 1;
+
+    private final Map<Integer, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor senders;
+    private final ScheduledExecutorService watchdog;
+    private final Set<Subscription> sendingSubscriptions = ConcurrentHashMap.newKeySet();
+    private final int bufferSize;
+    private final long sendTimeLimitNanos;
+    private final GameEvent resyncEvent;
+    private final LongAdder subscriberCount = new LongAdder();
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder sentMessageCount = new LongAdder();
+    private final LongAdder sentByteCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder timedOutCount = new LongAdder();
+
+    public GameEventBroker(ObjectMapper objectMapper, @Value("${chess.push.threads:0}") int threads,
+        @Value("${chess.push.buffer-size:64}") int bufferSize,
+        @Value("${chess.push.send-time-limit-millis:5000}") long sendTimeLimitMillis) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("구독자별 버퍼 크기는 1 이상이어야 합니다.");
+        }
+        if (sendTimeLimitMillis < 1) {
+            throw new IllegalArgumentException("전송 제한 시간은 1ms 이상이어야 합니다.");
+        }
+        this.objectMapper = objectMapper;
+        int senderCount = resolveThreads(threads);
+        this.senders = new ThreadPoolExecutor(senderCount, senderCount, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), createThreadFactory());
+        this.bufferSize = bufferSize;
+        this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMillis);
+        this.resyncEvent = GameEvent.of(objectMapper, RESYNC, Map.of(), RESYNC_CODE, new byte[0]);
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, WATCHDOG_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long checkIntervalMillis = Math.max(1L, sendTimeLimitMillis / 2);
+        watchdog.scheduleWithFixedDelay(this::abandonStalledSends, checkIntervalMillis, checkIntervalMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    private static int resolveThreads(int threads) {
+        if (threads > 0) {
+            return threads;
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    private static ThreadFactory createThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public Subscription subscribe(int gameId, GameEventSink sink) {
+        Subscription subscription = new Subscription(gameId, sink);
+        subscriptions.computeIfAbsent(gameId, id -> ConcurrentHashMap.newKeySet()).add(subscription);
+        subscriberCount.increment();
+        return subscription;
+    }
+
+    public SseEmitter subscribe(int gameId) {
+        SseEmitter emitter = new SseEmitter(NO_TIMEOUT);
+        Subscription subscription = subscribe(gameId, new SseEventSink(emitter));
+        emitter.onCompletion(() -> unsubscribe(subscription));
+        emitter.onTimeout(() -> unsubscribe(subscription));
+        emitter.onError(error -> unsubscribe(subscription));
+        return emitter;
+    }
+
+    public void unsubscribe(Subscription subscription) {
+        subscriptions.computeIfPresent(subscription.gameId, (gameId, subscribers) -> {
+            if (subscribers.remove(subscription)) {
+                subscriberCount.decrement();
+            }
+            if (subscribers.isEmpty()) {
+                return null;
+            }
+            return subscribers;
+        });
+    }
+
+    public void publish(MoveDeltaDto moveDelta) {
+        Set<Subscription> subscribers = subscriptions.get(moveDelta.getGameId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        GameEvent gameEvent = GameEvent.of(objectMapper, MOVE, moveDelta, MOVE_CODE,
+            GameBinaryCodec.encode(moveDelta));
+        offerAll(subscribers, gameEvent);
+    }
+
+    public void publish(int channelId, String name, Object data) {
+        Set<Subscription> subscribers = subscriptions.get(channelId);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        offerAll(subscribers, GameEvent.of(objectMapper, name, data, NOTICE_CODE, new byte[0]));
+    }
+
+    private void offerAll(Set<Subscription> subscribers, GameEvent gameEvent) {
+        publishedCount.increment();
+        for (Subscription subscriber : subscribers) {
+            subscriber.offer(gameEvent);
+        }
+    }
+
+    public void closeGame(int gameId) {
+        Set<Subscription> subscribers = subscriptions.remove(gameId);
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscription subscriber : subscribers) {
+            if (subscribers.remove(subscriber)) {
+                subscriberCount.decrement();
+            }
+            subscriber.sink.close();
+        }
+    }
+
+    private void abandonStalledSends() {
+        long now = System.nanoTime();
+        for (Subscription subscription : sendingSubscriptions) {
+            long sendStartedAt = subscription.sendStartedAt.get();
+            if (sendStartedAt == IDLE || sendStartedAt == ABANDONED || now - sendStartedAt < sendTimeLimitNanos) {
+                continue;
+            }
+            if (subscription.sendStartedAt.compareAndSet(sendStartedAt, ABANDONED)) {
+                timedOutCount.increment();
+                unsubscribe(subscription);
+                addSender();
+                subscription.sink.close();
+            }
+        }
+    }
+
+    private synchronized void addSender() {
+        senders.setMaximumPoolSize(senders.getMaximumPoolSize() + 1);
+        senders.setCorePoolSize(senders.getCorePoolSize() + 1);
+    }
+
+    private synchronized void removeSender() {
+        senders.setCorePoolSize(senders.getCorePoolSize() - 1);
+        senders.setMaximumPoolSize(senders.getMaximumPoolSize() - 1);
+    }
+
+    public int getSubscriberCount(int gameId) {
+        Set<Subscription> subscribers = subscriptions.get(gameId);
+        if (subscribers == null) {
+            return 0;
+        }
+        return subscribers.size();
+    }
+
+    public long getSubscriberCount() {
+        return subscriberCount.sum();
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.sum();
+    }
+
+    public long getSentMessageCount() {
+        return sentMessageCount.sum();
+    }
+
+    public long getSentByteCount() {
+        return sentByteCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getTimedOutCount() {
+        return timedOutCount.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+        senders.shutdownNow();
+        subscriptions.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.sink.close()));
+        subscriptions.clear();
+    }
+
+    public class Subscription {
+        private final int gameId;
+        private final GameEventSink sink;
+        private final Queue<GameEvent> pendingEvents = new ArrayDeque<>();
+        private final AtomicLong sendStartedAt = new AtomicLong(IDLE);
+        private boolean isScheduled;
+        private int droppedCount;
+
+        private Subscription(int gameId, GameEventSink sink) {
+            this.gameId = gameId;
+            this.sink = sink;
+        }
+
+        private void offer(GameEvent gameEvent) {
+            synchronized (this) {
+                if (pendingEvents.size() >= bufferSize) {
+                    droppedCount += pendingEvents.size();
+                    GameEventBroker.this.droppedCount.add(pendingEvents.size());
+                    pendingEvents.clear();
+                    pendingEvents.add(resyncEvent);
+                }
+                pendingEvents.add(gameEvent);
+                if (isScheduled) {
+                    return;
+                }
+                isScheduled = true;
+            }
+            senders.execute(this::drain);
+        }
+
+        private void drain() {
+            GameEvent gameEvent;
+            while ((gameEvent = poll()) != null) {
+                int sentBytes;
+                sendStartedAt.set(System.nanoTime());
+                sendingSubscriptions.add(this);
+                try {
+                    sentBytes = sink.send(gameEvent);
+                } catch (IOException | IllegalStateException e) {
+                    finishSend();
+                    unsubscribe(this);
+                    sink.close();
+                    return;
+                }
+                if (!finishSend()) {
+                    return;
+                }
+                sentMessageCount.increment();
+                sentByteCount.add(sentBytes);
+            }
+        }
+
+        private boolean finishSend() {
+            sendingSubscriptions.remove(this);
+            if (sendStartedAt.getAndSet(IDLE) != ABANDONED) {
+                return true;
+            }
+            removeSender();
+            return false;
+        }
+
+        private synchronized GameEvent poll() {
+            GameEvent gameEvent = pendingEvents.poll();
+            if (gameEvent == null) {
+                isScheduled = false;
+            }
+            return gameEvent;
+        }
+
+        public synchronized int getDroppedCount() {
+            return droppedCount;
+        }
+    }
+
+    private static class SseEventSink implements GameEventSink {
+        private final SseEmitter emitter;
+
+        private SseEventSink(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public int send(GameEvent gameEvent) throws IOException {
+            emitter.send(SseEmitter.event().name(gameEvent.getName())
+                .data(gameEvent.getPayloadBytes(), MediaType.APPLICATION_JSON));
+            return gameEvent.getPayloadLength();
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package chess.service;
+
+import java.io.IOException;
+
+public interface GameEventSink {
+    int send(GameEvent gameEvent) throws IOException;
+
+    void close();
+}
@@ -0,0 +1,175 @@
+package chess.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import chess.dao.GameDao;
+import chess.domain.game.GameStatus;
+import chess.dto.request.InquireRoomsDto;
+import chess.dto.response.MoveDeltaDto;
+import chess.entity.Room;
+
+@Service
+public class LobbyService {
+    public static final String ROOM_CREATED = "room-created";
+    public static final String ROOM_DELETED = "room-deleted";
+    public static final String ROOM_FINISHED = "room-finished";
+
+    public static final int LOBBY_CHANNEL_ID = 0;
+
+    private static final Room[] EMPTY = new Room[0];
+    private static final Comparator<Room> BY_ID = Comparator.comparingInt(Room::getId);
+
+    private final GameDao gameDao;
+    private final GameEventBroker gameEventBroker;
+    private final Map<Integer, Turn> turns = new ConcurrentHashMap<>();
+    private volatile Room[] rooms = EMPTY;
+
+    public LobbyService(GameDao gameDao, GameEventBroker gameEventBroker) {
+        this.gameDao = gameDao;
+        this.gameEventBroker = gameEventBroker;
+    }
+
+    @PostConstruct
+    public synchronized void load() {
+        List<Room> loaded = new ArrayList<>();
+        int after = 0;
+        while (true) {
+            List<Room> page = new ArrayList<>(InquireRoomsDto.MAX_LIMIT);
+            gameDao.inquireRooms(InquireRoomsDto.of(after, InquireRoomsDto.MAX_LIMIT, null, null), page::add);
+            loaded.addAll(page);
+            if (page.size() < InquireRoomsDto.MAX_LIMIT) {
+                break;
+            }
+            after = page.get(page.size() - 1).getId();
+        }
+        turns.clear();
+        rooms = loaded.toArray(EMPTY);
+    }
+
+    public List<Room> inquireRooms(InquireRoomsDto inquireRoomsDto) {
+        Room[] snapshot = rooms;
+        List<Room> found = new ArrayList<>(Math.min(inquireRoomsDto.getLimit(), snapshot.length));
+        for (int i = firstIndexAfter(snapshot, inquireRoomsDto.getAfter()); i < snapshot.length; i++) {
+            if (found.size() == inquireRoomsDto.getLimit()) {
+                break;
+            }
+            if (matches(snapshot[i], inquireRoomsDto)) {
+                found.add(withCurrentTurn(snapshot[i]));
+            }
+        }
+        return Collections.unmodifiableList(found);
+    }
+
+    private Room withCurrentTurn(Room room) {
+        Turn turn = turns.get(room.getId());
+        if (turn == null || turn.color.equals(room.getTurn())) {
+            return room;
+        }
+        return new Room(room.getId(), turn.color, room.getName(), room.getStatus());
+    }
+
+    private static int firstIndexAfter(Room[] snapshot, int after) {
+        int index = Arrays.binarySearch(snapshot, new Room(after, null, null, null), BY_ID);
+        if (index < 0) {
+            return -index - 1;
+        }
+        return index + 1;
+    }
+
+    private static boolean matches(Room room, InquireRoomsDto inquireRoomsDto) {
+        boolean isStatusMatched = inquireRoomsDto.getStatus()
+            .map(status -> status.name().equals(room.getStatus()))
+            .orElse(true);
+        boolean isNameMatched = inquireRoomsDto.getNamePrefix()
+            .map(namePrefix -> room.getName().startsWith(namePrefix))
+            .orElse(true);
+        return isStatusMatched && isNameMatched;
+    }
+
+    public synchronized void roomsCreated(List<Room> createdRooms) {
+        Room[] updated = Arrays.copyOf(rooms, rooms.length + createdRooms.size());
+        for (int i = 0; i < createdRooms.size(); i++) {
+            updated[rooms.length + i] = createdRooms.get(i);
+        }
+        Arrays.sort(updated, BY_ID);
+        rooms = updated;
+        createdRooms.forEach(room -> broadcast(ROOM_CREATED, room));
+    }
+
+    public synchronized void roomDeleted(int gameId) {
+        int index = indexOf(gameId);
+        if (index < 0) {
+            return;
+        }
+
+        Room[] updated = new Room[rooms.length - 1];
+        System.arraycopy(rooms, 0, updated, 0, index);
+        System.arraycopy(rooms, index + 1, updated, index, rooms.length - index - 1);
+        Room deleted = rooms[index];
+        rooms = updated;
+        turns.remove(gameId);
+        broadcast(ROOM_DELETED, Map.of("id", deleted.getId()));
+    }
+
+    public synchronized void roomFinished(int gameId) {
+        int index = indexOf(gameId);
+        if (index < 0 || GameStatus.FINISHED.name().equals(rooms[index].getStatus())) {
+            return;
+        }
+
+        Room[] updated = rooms.clone();
+        Room room = rooms[index];
+        updated[index] = new Room(room.getId(), room.getTurn(), room.getName(), GameStatus.FINISHED.name());
+        rooms = updated;
+        broadcast(ROOM_FINISHED, withCurrentTurn(updated[index]));
+    }
+
+    public void turnChanged(MoveDeltaDto moveDelta) {
+        if (indexOf(moveDelta.getGameId()) < 0) {
+            return;
+        }
+        Turn turn = new Turn(moveDelta.getVersion(), moveDelta.getTurn());
+        turns.merge(moveDelta.getGameId(), turn, (previous, next) -> next.version > previous.version ? next : previous);
+    }
+
+    private int indexOf(int gameId) {
+        return Arrays.binarySearch(rooms, new Room(gameId, null, null, null), BY_ID);
+    }
+
+    public SseEmitter subscribe() {
+        return gameEventBroker.subscribe(LOBBY_CHANNEL_ID);
+    }
+
+    private void broadcast(String eventName, Object data) {
+        gameEventBroker.publish(LOBBY_CHANNEL_ID, eventName, data);
+    }
+
+    public int getRoomCount() {
+        return rooms.length;
+    }
+
+    public int getSubscriberCount() {
+        return gameEventBroker.getSubscriberCount(LOBBY_CHANNEL_ID);
+    }
+
+    private static class Turn {
+        private final int version;
+        private final String color;
+
+        private Turn(int version, String color) {
+            this.version = version;
+            this.color = color;
+        }
+    }
+}
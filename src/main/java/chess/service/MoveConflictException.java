@@ -0,0 +1,10 @@
+package chess.service;
+
+public class MoveConflictException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+    private static final String MESSAGE = "다른 수가 먼저 반영되었습니다. 다시 시도해주세요.";
+
+    public MoveConflictException() {
+        super(MESSAGE);
+    }
+}
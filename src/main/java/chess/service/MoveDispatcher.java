@@ -0,0 +1,165 @@
+package chess.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import chess.dto.request.UpdatePiecePositionDto;
+import chess.dto.response.MoveDeltaDto;
+
+@Service
+public class MoveDispatcher {
+    private static final String THREAD_NAME_PREFIX = "chess-move-";
+
+    private final ChessService chessService;
+    private final ExecutorService workers;
+    private final Map<Integer, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final int maxBatchSize;
+
+    public MoveDispatcher(ChessService chessService,
+        @Value("${chess.move.threads:0}") int threads,
+        @Value("${chess.move.max-batch-size:16}") int maxBatchSize) {
+        this.chessService = chessService;
+        this.workers = Executors.newFixedThreadPool(resolveThreads(threads), createThreadFactory());
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    private static int resolveThreads(int threads) {
+        if (threads > 0) {
+            return threads;
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    private static ThreadFactory createThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public CompletableFuture<MoveDeltaDto> submit(UpdatePiecePositionDto updatePiecePositionDto) {
+        PendingMove pendingMove = new PendingMove(updatePiecePositionDto);
+        int gameId = updatePiecePositionDto.getGameId();
+        while (true) {
+            Mailbox mailbox = mailboxes.computeIfAbsent(gameId, Mailbox::new);
+            if (mailbox.offer(pendingMove)) {
+                return pendingMove.future;
+            }
+        }
+    }
+
+    int getMailboxCount() {
+        return mailboxes.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private class Mailbox {
+        private final int gameId;
+        private final Queue<PendingMove> pendingMoves = new ArrayDeque<>();
+        private boolean isScheduled;
+        private boolean isClosed;
+
+        private Mailbox(int gameId) {
+            this.gameId = gameId;
+        }
+
+        private boolean offer(PendingMove pendingMove) {
+            synchronized (this) {
+                if (isClosed) {
+                    return false;
+                }
+                pendingMoves.add(pendingMove);
+                if (isScheduled) {
+                    return true;
+                }
+                isScheduled = true;
+            }
+            workers.execute(this::drain);
+            return true;
+        }
+
+        private void drain() {
+            List<PendingMove> batch = takeBatch();
+            try {
+                apply(batch);
+            } finally {
+                reschedule();
+            }
+        }
+
+        private synchronized List<PendingMove> takeBatch() {
+            List<PendingMove> batch = new ArrayList<>(Math.min(pendingMoves.size(), maxBatchSize));
+            while (!pendingMoves.isEmpty() && batch.size() < maxBatchSize) {
+                batch.add(pendingMoves.poll());
+            }
+            return batch;
+        }
+
+        private void apply(List<PendingMove> batch) {
+            List<UpdatePiecePositionDto> updatePiecePositionDtos = new ArrayList<>(batch.size());
+            for (PendingMove pendingMove : batch) {
+                updatePiecePositionDtos.add(pendingMove.updatePiecePositionDto);
+            }
+
+            List<MoveOutcome> outcomes;
+            try {
+                outcomes = chessService.movePieces(gameId, updatePiecePositionDtos);
+            } catch (RuntimeException e) {
+                batch.forEach(pendingMove -> pendingMove.future.completeExceptionally(e));
+                return;
+            }
+
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).complete(outcomes.get(i));
+            }
+        }
+
+        private void reschedule() {
+            synchronized (this) {
+                if (pendingMoves.isEmpty()) {
+                    isClosed = true;
+                    mailboxes.remove(gameId, this);
+                    return;
+                }
+            }
+            workers.execute(this::drain);
+        }
+    }
+
+    private static class PendingMove {
+        private final UpdatePiecePositionDto updatePiecePositionDto;
+        private final CompletableFuture<MoveDeltaDto> future = new CompletableFuture<>();
+
+        private PendingMove(UpdatePiecePositionDto updatePiecePositionDto) {
+            this.updatePiecePositionDto = updatePiecePositionDto;
+        }
+
+        private void complete(MoveOutcome outcome) {
+            if (outcome.isApplied()) {
+                future.complete(outcome.getMoveDelta());
+                return;
+            }
+            future.completeExceptionally(outcome.getFailure());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package chess.service;
+
+import chess.dto.response.MoveDeltaDto;
+
+public class MoveOutcome {
+    private final MoveDeltaDto moveDelta;
+    private final RuntimeException failure;
+
+    private MoveOutcome(MoveDeltaDto moveDelta, RuntimeException failure) {
+        this.moveDelta = moveDelta;
+        this.failure = failure;
+    }
+
+    public static MoveOutcome applied(MoveDeltaDto moveDelta) {
+        return new MoveOutcome(moveDelta, null);
+    }
+
+    public static MoveOutcome failed(RuntimeException failure) {
+        return new MoveOutcome(null, failure);
+    }
+
+    public boolean isApplied() {
+        return failure == null;
+    }
+
+    public MoveDeltaDto getMoveDelta() {
+        return moveDelta;
+    }
+
+    public RuntimeException getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return "MoveOutcome{" +
+            "moveDelta=" + moveDelta +
+            ", failure=" + failure +
+            '}';
+    }
+}
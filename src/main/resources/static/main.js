@@ -5,6 +5,7 @@ const Y_AXES = ["8", "7", "6", "5", "4", "3", "2", "1"];
 
 let from = null;
 let to = null;
+let version = -1;
 
 async function fetchAsGet(path) {
     const response = await fetch(`${API_HOST}/${path}`, {
@@ -14,24 +15,12 @@ async function fetchAsGet(path) {
     return response.json();
 }
 
-const fetchBoard = async (id) => {
-    return fetchAsGet("board/" + id);
-}
-
-const fetchCurrentTurn = async (id) => {
-    return fetchAsGet("turn/" + id);
-}
-
-const fetchScore = async (id) => {
-    return fetchAsGet("score/" + id);
-}
-
-const fetchWinner = async (id) => {
-    return fetchAsGet("winner/" + id);
+const fetchGame = async (id) => {
+    return fetchAsGet("game/" + id);
 }
 
 const move = async (from, to, id) => {
-    let res = await fetch("move/" + id, {
+    let res = await fetch("move/" + id + "?delta=true", {
         method: "POST",
         headers: {
             "Content-Type": "application/json"
@@ -40,16 +29,36 @@ const move = async (from, to, id) => {
     });
 
     res = await res.json();
-    if (res.message != "") {
+    if (res.message !== undefined) {
         await alert(res.message);
+        await render(id);
+        return;
     }
-    await render(id);
+    applyDelta(res);
 }
 
-const renderBoard = async (id) => {
-    clear();
+const applyDelta = (delta) => {
+    if (delta.version <= version) {
+        return;
+    }
+    if (delta.version !== version + 1) {
+        render(delta.gameId);
+        return;
+    }
+    version = delta.version;
+    renderTile(delta.from, null);
+    renderTile(delta.to, delta.piece);
+    renderCurrentTurn(delta.turn);
+    renderScore(delta);
+    renderWinner(delta.result);
+}
 
-    const board = await fetchBoard(id);
+const renderTile = (coordinate, pieceName) => {
+    const tile = document.getElementById(`tile-${coordinate}`);
+    tile.innerHTML = pieceName ? `<img src='images/${pieceName.toLowerCase()}.svg'/>` : "";
+}
+
+const renderBoard = (board) => {
     let html = "";
     Y_AXES.forEach((yAxis, i) => {
         html += "<div class='row'>";
@@ -58,10 +67,10 @@ const renderBoard = async (id) => {
             const coordinate = xAxis + yAxis;
             const pieceName = board[coordinate];
             if (pieceName !== undefined) {
-                const imgTag = `<div class="column" onclick="handleClickTile('${coordinate}')"><img src='images/${pieceName.toLowerCase()}.svg'/></div>`;
+                const imgTag = `<div class="column" id="tile-${coordinate}" onclick="handleClickTile('${coordinate}')"><img src='images/${pieceName.toLowerCase()}.svg'/></div>`;
                 html += imgTag;
             } else {
-                const imgTag = `<div class="column" onclick="handleClickTile('${coordinate}')"></div>`;
+                const imgTag = `<div class="column" id="tile-${coordinate}" onclick="handleClickTile('${coordinate}')"></div>`;
                 html += imgTag;
             }
         });
@@ -84,46 +93,42 @@ const handleClickTile = async (coordinate) => {
     }
 }
 
-const renderCurrentTurn = async (id) => {
-    const currentTurn = await fetchCurrentTurn(id);
-
+const renderCurrentTurn = (currentTurn) => {
     let turn = "";
-    if (currentTurn.pieceColor === "WHITE") {
+    if (currentTurn === "WHITE") {
         turn = "백";
     }
 
-    if (currentTurn.pieceColor === "BLACK") {
+    if (currentTurn === "BLACK") {
         turn = "흑";
     }
 
     document.getElementById("turn").innerHTML = `현재차례: ${turn}`;
 }
 
-const renderScore = async (id) => {
-    const score = await fetchScore(id);
-
+const renderScore = (game) => {
     let html = "";
-    html += `백: ${score.white}<br/>`;
-    html += `흑: ${score.black}`;
+    html += `백: ${game.whiteScore}<br/>`;
+    html += `흑: ${game.blackScore}`;
 
     document.getElementById("score").innerHTML = html;
 }
 
-const renderWinner = async (id) => {
-    try {
-        const winner = await fetchWinner(id);
-
-        if (winner.pieceColor) {
-            let color = "";
-            if (winner.pieceColor === "WHITE") {
-                color = "백";
-            } else {
-                color = "흑";
-            }
+const renderWinner = (result) => {
+    if (result === "DRAW") {
+        document.getElementById("score").innerHTML = "무승부";
+        return;
+    }
 
-            document.getElementById("score").innerHTML = `승자는 ${color}`;
+    if (result) {
+        let color = "";
+        if (result === "WHITE") {
+            color = "백";
+        } else {
+            color = "흑";
         }
-    } catch (e) {
+
+        document.getElementById("score").innerHTML = `승자는 ${color}`;
     }
 }
 
@@ -135,16 +140,56 @@ const clear = () => {
 }
 
 const render = async (id) => {
+    const game = await fetchGame(id);
+    version = game.version;
     clear();
-    await renderBoard(id);
-    await renderCurrentTurn(id);
-    await renderScore(id);
-    await renderWinner(id);
+    renderBoard(game.board);
+    renderCurrentTurn(game.turn);
+    renderScore(game);
+    renderWinner(game.result);
+}
+
+const handleGameEvent = (id, eventName, data) => {
+    if (eventName === "move") {
+        applyDelta(data);
+    }
+    if (eventName === "resync") {
+        render(id);
+    }
+}
+
+const subscribeGame = (id) => {
+    const fallbackToEventSource = () => {
+        const events = new EventSource(`${API_HOST}/game/${id}/events`);
+        ["move", "resync"].forEach(eventName => events.addEventListener(eventName,
+            event => handleGameEvent(id, eventName, JSON.parse(event.data).data)));
+    };
+
+    if (!window.WebSocket) {
+        fallbackToEventSource();
+        return;
+    }
+
+    const socket = new WebSocket(`${API_HOST.replace("http", "ws")}/ws/game/${id}`);
+    const decoder = new TextDecoder();
+    let isOpened = false;
+    socket.binaryType = "arraybuffer";
+    socket.onopen = () => isOpened = true;
+    socket.onmessage = (message) => {
+        const event = JSON.parse(decoder.decode(message.data));
+        handleGameEvent(id, event.event, event.data);
+    };
+    socket.onclose = () => {
+        if (!isOpened) {
+            fallbackToEventSource();
+        }
+    };
 }
 
 window.onload = async () => {
     const id = parseQueryString().id;
     await render(id);
+    subscribeGame(id);
 }
 
 const parseQueryString = () => {
@@ -2,6 +2,8 @@ package chess.dao;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +12,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import chess.domain.board.Board;
+import chess.domain.game.ChessGame;
 import chess.domain.piece.Piece;
 import chess.domain.piece.PieceColor;
 import chess.domain.piece.PieceType;
@@ -49,6 +52,7 @@ class BoardDaoImplTest {
             + "turn ENUM('WHITE', 'BLACK'),"
             + "name VARCHAR(10) NOT NULL,"
             + "password VARCHAR(10) NOT NULL,"
+            + "version INT NOT NULL DEFAULT 0,"
             + "PRIMARY KEY (id))"
         );
 
@@ -74,6 +78,57 @@ class BoardDaoImplTest {
         assertThat(board).isInstanceOf(Board.class);
     }
 
+    @DisplayName("getBoard 는 저장된 기물을 모두 담은 Board를 반환한다.")
+    @Test
+    void getBoard_withPieces() {
+        // given
+        boardDao.createPiece(CreatePieceDto.of(id, Position.of(X_AXIS, Y_AXIS), new Piece(PIECE_TYPE, PIECE_COLOR)));
+        boardDao.createPiece(
+            CreatePieceDto.of(id, Position.of(X_AXIS_2, Y_AXIS_2), new Piece(PieceType.KING, PieceColor.BLACK)));
+
+        // when
+        Board board = boardDao.getBoard(id);
+
+        // then
+        assertThat(board.getValue()).hasSize(2);
+        assertThat(board.find(Position.of(X_AXIS_2, Y_AXIS_2)).get().isKing()).isTrue();
+    }
+
+    @DisplayName("getChessGame 은 한 번의 조회로 기물과 차례를 담은 ChessGame 을 반환한다.")
+    @Test
+    void getChessGame() {
+        // given
+        boardDao.createPiece(CreatePieceDto.of(id, Position.of(X_AXIS, Y_AXIS), new Piece(PIECE_TYPE, PIECE_COLOR)));
+        new GameDaoImpl(jdbcTemplate).updateTurnToBlack(id);
+
+        // when
+        ChessGame chessGame = boardDao.getChessGame(id);
+
+        // then
+        assertThat(chessGame.getCurrentTurn()).isEqualTo(PieceColor.BLACK);
+        assertThat(chessGame.getBoard().find(Position.of(X_AXIS, Y_AXIS)).get().getPieceType())
+            .isEqualTo(PIECE_TYPE);
+    }
+
+    @DisplayName("getChessGame 은 기물이 없는 게임도 차례와 함께 반환한다.")
+    @Test
+    void getChessGame_withoutPieces() {
+        // given & when
+        ChessGame chessGame = boardDao.getChessGame(id);
+
+        // then
+        assertThat(chessGame.getCurrentTurn()).isEqualTo(PieceColor.WHITE);
+        assertThat(chessGame.getBoard().getValue()).isEmpty();
+    }
+
+    @DisplayName("getChessGame 은 존재하지 않는 게임이라면 예외를 던진다.")
+    @Test
+    void getChessGame_throwsExceptionOnNotExistingGame() {
+        assertThatThrownBy(() -> boardDao.getChessGame(id + 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("존재하지 않는 게임입니다.");
+    }
+
     @DisplayName("CreatePieceDto를 전달받아 board 테이블에 기물을 생성한다.")
     @Test
     void createPiece() {
@@ -85,6 +140,62 @@ class BoardDaoImplTest {
         boardDao.createPiece(createPieceDto);
     }
 
+    @DisplayName("createBoards 는 여러 게임에 같은 체스판을 한 번에 생성한다.")
+    @Test
+    void createBoards() {
+        // given
+        int otherId = new GameDaoImpl(jdbcTemplate).createGameAndGetId(TEST_GAME_NAME, TEST_GAME_PASSWORD);
+
+        // when
+        boardDao.createBoards(List.of(id, otherId), Board.createInitializedBoard());
+
+        // then
+        assertThat(boardDao.getBoard(id).getValue()).hasSize(32);
+        assertThat(boardDao.getBoard(otherId).getValue()).hasSize(32);
+    }
+
+    @DisplayName("movePiece 는 읽어온 버전이 그대로일 때만 이동을 반영하고 버전을 올린다.")
+    @Test
+    void movePiece_compareAndSetVersion() {
+        // given
+        boardDao.createBoards(List.of(id), Board.createInitializedBoard());
+        ChessGame first = boardDao.getChessGame(id);
+        ChessGame second = boardDao.getChessGame(id);
+        UpdatePiecePositionDto firstMove = UpdatePiecePositionDto.of(id, Position.from("b1"), Position.from("c3"));
+        UpdatePiecePositionDto secondMove = UpdatePiecePositionDto.of(id, Position.from("a2"), Position.from("a3"));
+        first.movePiece(firstMove.getFrom(), firstMove.getTo());
+        second.movePiece(secondMove.getFrom(), secondMove.getTo());
+
+        // when
+        boolean firstResult = boardDao.movePiece(firstMove, first);
+        boolean secondResult = boardDao.movePiece(secondMove, second);
+
+        // then
+        ChessGame actual = boardDao.getChessGame(id);
+        assertThat(firstResult).isTrue();
+        assertThat(secondResult).isFalse();
+        assertThat(actual.getVersion()).isEqualTo(1);
+        assertThat(actual.getBoard().find(Position.from("c3"))).isPresent();
+        assertThat(actual.getBoard().find(Position.from("a3"))).isEmpty();
+    }
+
+    @DisplayName("getVersion 은 기물을 읽지 않고 게임의 버전만 반환한다.")
+    @Test
+    void getVersion() {
+        // given
+        boardDao.createBoards(List.of(id), Board.createInitializedBoard());
+        ChessGame chessGame = boardDao.getChessGame(id);
+        UpdatePiecePositionDto move = UpdatePiecePositionDto.of(id, Position.from("b1"), Position.from("c3"));
+        chessGame.movePiece(move.getFrom(), move.getTo());
+        boardDao.movePiece(move, chessGame);
+
+        // when
+        int actual = boardDao.getVersion(id);
+
+        // then
+        assertThat(actual).isEqualTo(1);
+    }
+
     @DisplayName("DeletePieceDto를 전달받아 board 테이블에 기물을 제거한다.")
     @Test
     void deletePiece() {
@@ -1,5 +1,10 @@
 package chess.dao;
 
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -7,6 +12,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import chess.domain.game.GameStatus;
+import chess.dto.request.InquireRoomsDto;
+import chess.entity.Room;
+
 @JdbcTest
 public class GameDaoImplTest {
     private static final String TEST_GAME_NAME = "test";
@@ -27,8 +36,18 @@ public class GameDaoImplTest {
             + "turn ENUM('WHITE', 'BLACK'),"
             + "name VARCHAR(10) NOT NULL,"
             + "password VARCHAR(10) NOT NULL,"
+            + "version INT NOT NULL DEFAULT 0,"
+            + "status ENUM('PLAYING', 'FINISHED') NOT NULL DEFAULT 'PLAYING',"
             + "PRIMARY KEY (id))"
         );
+        jdbcTemplate.execute("CREATE INDEX idx_game_status_id ON game (status, id)");
+        jdbcTemplate.execute("CREATE INDEX idx_game_name_id ON game (name, id)");
+    }
+
+    private List<Room> inquireRooms(int after, int limit, GameStatus status, String namePrefix) {
+        List<Room> rooms = new ArrayList<>();
+        gameDao.inquireRooms(InquireRoomsDto.of(after, limit, status, namePrefix), rooms::add);
+        return rooms;
     }
 
     @DisplayName("새로운 게임을 game 테이블에 생성한다.")
@@ -66,4 +85,51 @@ public class GameDaoImplTest {
         // then
         gameDao.updateTurnToBlack(id);
     }
+
+    @DisplayName("after 보다 큰 id 의 방을 limit 개까지 id 순서로 조회한다.")
+    @Test
+    void inquireRooms_keyset() {
+        // given
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(gameDao.createGameAndGetId(TEST_GAME_NAME, TEST_GAME_PASSWORD));
+        }
+
+        // when
+        List<Room> actual = inquireRooms(ids.get(1), 2, null, null);
+
+        // then
+        assertThat(actual).extracting(Room::getId).containsExactly(ids.get(2), ids.get(3));
+        assertThat(actual.get(0).getStatus()).isEqualTo("PLAYING");
+    }
+
+    @DisplayName("끝난 게임만 조회할 수 있다.")
+    @Test
+    void inquireRooms_byStatus() {
+        // given
+        gameDao.createGameAndGetId(TEST_GAME_NAME, TEST_GAME_PASSWORD);
+        int finishedId = gameDao.createGameAndGetId(TEST_GAME_NAME, TEST_GAME_PASSWORD);
+        gameDao.finishGame(finishedId);
+
+        // when
+        List<Room> actual = inquireRooms(0, 10, GameStatus.FINISHED, null);
+
+        // then
+        assertThat(actual).extracting(Room::getId).containsExactly(finishedId);
+    }
+
+    @DisplayName("이름이 주어진 접두사로 시작하는 방만 조회하고 와일드카드 문자는 그대로 비교한다.")
+    @Test
+    void inquireRooms_byNamePrefix() {
+        // given
+        int id = gameDao.createGameAndGetId("ab_c", TEST_GAME_PASSWORD);
+        gameDao.createGameAndGetId("abxc", TEST_GAME_PASSWORD);
+        gameDao.createGameAndGetId("test", TEST_GAME_PASSWORD);
+
+        // when
+        List<Room> actual = inquireRooms(0, 10, null, "ab_");
+
+        // then
+        assertThat(actual).extracting(Room::getId).containsExactly(id);
+    }
 }
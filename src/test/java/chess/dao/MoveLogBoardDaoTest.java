@@ -0,0 +1,224 @@
+package chess.dao;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import chess.domain.board.Board;
+import chess.domain.board.BoardCodec;
+import chess.domain.game.ChessGame;
+import chess.domain.piece.PieceColor;
+import chess.domain.position.Position;
+import chess.dto.request.UpdatePiecePositionDto;
+
+@JdbcTest
+class MoveLogBoardDaoTest {
+    private static final String TEST_GAME_NAME = "test";
+    private static final String TEST_GAME_PASSWORD = "password";
+
+    private int id;
+    private MoveLogBoardDao moveLogBoardDao;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        moveLogBoardDao = new MoveLogBoardDao(jdbcTemplate, 2, Runnable::run);
+
+        jdbcTemplate.execute("DROP TABLE move, snapshot, game IF EXISTS");
+        jdbcTemplate.execute("CREATE TABLE game("
+            + "id   INT NOT NULL AUTO_INCREMENT,"
+            + "turn ENUM('WHITE', 'BLACK'),"
+            + "name VARCHAR(10) NOT NULL,"
+            + "password VARCHAR(10) NOT NULL,"
+            + "version INT NOT NULL DEFAULT 0,"
+            + "PRIMARY KEY (id))"
+        );
+        jdbcTemplate.execute("CREATE TABLE move("
+            + "game_id INT NOT NULL,"
+            + "ply INT NOT NULL,"
+            + "from_position CHAR(2) NOT NULL,"
+            + "to_position CHAR(2) NOT NULL,"
+            + "captured_piece_type ENUM('PAWN', 'ROOK', 'KNIGHT', 'BISHOP', 'QUEEN', 'KING'),"
+            + "captured_piece_color ENUM('WHITE', 'BLACK'),"
+            + "PRIMARY KEY (game_id, ply),"
+            + "FOREIGN KEY (game_id) REFERENCES game (id) ON DELETE CASCADE)"
+        );
+        jdbcTemplate.execute("CREATE TABLE snapshot("
+            + "game_id INT NOT NULL,"
+            + "ply INT NOT NULL,"
+            + "turn ENUM('WHITE', 'BLACK'),"
+            + "board_state BINARY(32) NOT NULL,"
+            + "PRIMARY KEY (game_id, ply),"
+            + "FOREIGN KEY (game_id) REFERENCES game (id) ON DELETE CASCADE)"
+        );
+        id = new GameDaoImpl(jdbcTemplate).createGameAndGetId(TEST_GAME_NAME, TEST_GAME_PASSWORD);
+        moveLogBoardDao.createBoards(List.of(id), Board.createInitializedBoard());
+    }
+
+    private ChessGame move(String from, String to) {
+        ChessGame chessGame = moveLogBoardDao.getChessGame(id);
+        UpdatePiecePositionDto updatePiecePositionDto = UpdatePiecePositionDto.of(id, Position.from(from),
+            Position.from(to));
+        chessGame.movePiece(updatePiecePositionDto.getFrom(), updatePiecePositionDto.getTo());
+        moveLogBoardDao.movePiece(updatePiecePositionDto, chessGame);
+        return chessGame;
+    }
+
+    @DisplayName("새로 만든 게임은 0수째 스냅샷에서 백의 차례로 불러온다.")
+    @Test
+    void getChessGame_initial() {
+        // given & when
+        ChessGame actual = moveLogBoardDao.getChessGame(id);
+
+        // then
+        assertThat(actual.getVersion()).isZero();
+        assertThat(actual.getCurrentTurn()).isEqualTo(PieceColor.WHITE);
+        assertThat(actual.positionKey()).isEqualTo(Board.createInitializedBoard().positionKey(PieceColor.WHITE));
+    }
+
+    @DisplayName("movePiece 는 수를 하나 추가하고, 불러올 때 스냅샷 뒤의 수들을 다시 둔다.")
+    @Test
+    void movePiece_appendsMove() {
+        // given
+        move("b1", "c3");
+        ChessGame expected = move("a7", "a6");
+
+        // when
+        ChessGame actual = moveLogBoardDao.getChessGame(id);
+
+        // then
+        assertThat(actual.getVersion()).isEqualTo(2);
+        assertThat(actual.getCurrentTurn()).isEqualTo(PieceColor.WHITE);
+        assertThat(actual.positionKey()).isEqualTo(expected.positionKey());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM move WHERE game_id = ?", Integer.class, id))
+            .isEqualTo(2);
+    }
+
+    @DisplayName("movePiece 는 방 목록이 읽는 game 테이블의 차례도 함께 바꾼다.")
+    @Test
+    void movePiece_updatesGameTurn() {
+        // given & when
+        move("b1", "c3");
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT turn FROM game WHERE id = ?", String.class, id))
+            .isEqualTo(PieceColor.BLACK.name());
+    }
+
+    @DisplayName("getVersion 은 게임을 다시 두지 않고 마지막 수 번호를 반환한다.")
+    @Test
+    void getVersion() {
+        // given
+        int initial = moveLogBoardDao.getVersion(id);
+        move("b1", "c3");
+        move("a7", "a6");
+
+        // when
+        int actual = moveLogBoardDao.getVersion(id);
+
+        // then
+        assertThat(initial).isZero();
+        assertThat(actual).isEqualTo(2);
+    }
+
+    @DisplayName("수 기록 없이 스냅샷만 있는 게임의 버전은 스냅샷의 수 번호다.")
+    @Test
+    void getVersion_snapshotOnly() {
+        // given
+        int migratedId = new GameDaoImpl(jdbcTemplate).createGameAndGetId(TEST_GAME_NAME, TEST_GAME_PASSWORD);
+        jdbcTemplate.update("INSERT INTO snapshot(game_id, ply, turn, board_state) VALUES(?, ?, ?, ?)", migratedId,
+            5, PieceColor.BLACK.name(), BoardCodec.encode(Board.createInitializedBoard()));
+
+        // when
+        int actual = moveLogBoardDao.getVersion(migratedId);
+
+        // then
+        assertThat(actual).isEqualTo(5);
+        assertThat(actual).isEqualTo(moveLogBoardDao.getChessGame(migratedId).getVersion());
+    }
+
+    @DisplayName("같은 수 번호의 수가 이미 있다면 movePiece 는 false 를 반환한다.")
+    @Test
+    void movePiece_conflict() {
+        // given
+        ChessGame stale = moveLogBoardDao.getChessGame(id);
+        move("b1", "c3");
+        UpdatePiecePositionDto staleMove = UpdatePiecePositionDto.of(id, Position.from("a2"), Position.from("a3"));
+        stale.movePiece(staleMove.getFrom(), staleMove.getTo());
+
+        // when
+        boolean actual = moveLogBoardDao.movePiece(staleMove, stale);
+
+        // then
+        assertThat(actual).isFalse();
+        assertThat(moveLogBoardDao.getChessGame(id).getVersion()).isEqualTo(1);
+    }
+
+    @DisplayName("원하는 수 번호의 게임을 처음부터 다시 두지 않고 불러올 수 있다.")
+    @Test
+    void getChessGame_atPly() {
+        // given
+        ChessGame expected = move("b1", "c3");
+        move("a7", "a6");
+        move("c3", "b5");
+
+        // when
+        ChessGame actual = moveLogBoardDao.getChessGame(id, 1);
+
+        // then
+        assertThat(actual.getVersion()).isEqualTo(1);
+        assertThat(actual.getCurrentTurn()).isEqualTo(PieceColor.BLACK);
+        assertThat(actual.positionKey()).isEqualTo(expected.positionKey());
+    }
+
+    @DisplayName("writeSnapshot 으로 저장한 스냅샷에서 불러와도 같은 게임이 된다.")
+    @Test
+    void writeSnapshot() {
+        // given
+        move("b1", "c3");
+        ChessGame expected = move("a7", "a6");
+        move("c3", "b5");
+
+        // when
+        moveLogBoardDao.writeSnapshot(id, 2);
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT MAX(ply) FROM snapshot WHERE game_id = ?", Integer.class, id))
+            .isEqualTo(2);
+        assertThat(moveLogBoardDao.getChessGame(id, 2).positionKey()).isEqualTo(expected.positionKey());
+        assertThat(moveLogBoardDao.getChessGame(id).getVersion()).isEqualTo(3);
+    }
+
+    @DisplayName("이미 저장된 수 번호의 스냅샷은 다시 저장하지 않고 넘어간다.")
+    @Test
+    void writeSnapshot_duplicate() {
+        // given
+        move("b1", "c3");
+        move("a7", "a6");
+        moveLogBoardDao.writeSnapshot(id, 2);
+
+        // when
+        moveLogBoardDao.writeSnapshot(id, 2);
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM snapshot WHERE game_id = ?", Integer.class, id))
+            .isEqualTo(2);
+    }
+
+    @DisplayName("없는 게임의 스냅샷을 저장하려 하면 예외를 삼키지 않고 던진다.")
+    @Test
+    void writeSnapshot_throwsExceptionOnMissingGame() {
+        assertThatThrownBy(() -> moveLogBoardDao.writeSnapshot(id + 1, 2))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("존재하지 않는 게임입니다.");
+    }
+}
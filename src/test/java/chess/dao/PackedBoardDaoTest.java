@@ -0,0 +1,180 @@
+package chess.dao;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import chess.domain.board.Board;
+import chess.domain.game.ChessGame;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceColor;
+import chess.domain.piece.PieceType;
+import chess.domain.position.Position;
+import chess.dto.request.CreatePieceDto;
+import chess.dto.request.DeletePieceDto;
+import chess.dto.request.UpdatePiecePositionDto;
+
+@JdbcTest
+class PackedBoardDaoTest {
+    private static final String TEST_GAME_NAME = "test";
+    private static final String TEST_GAME_PASSWORD = "password";
+
+    private int id;
+    private PackedBoardDao packedBoardDao;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        packedBoardDao = new PackedBoardDao(jdbcTemplate);
+
+        jdbcTemplate.execute("DROP TABLE game, board IF EXISTS");
+        jdbcTemplate.execute("CREATE TABLE game("
+            + "id   INT NOT NULL AUTO_INCREMENT,"
+            + "turn ENUM('WHITE', 'BLACK'),"
+            + "name VARCHAR(10) NOT NULL,"
+            + "password VARCHAR(10) NOT NULL,"
+            + "version INT NOT NULL DEFAULT 0,"
+            + "board_state BINARY(32) NULL,"
+            + "PRIMARY KEY (id))"
+        );
+
+        jdbcTemplate.execute("CREATE TABLE board("
+            + "game_id     INT NOT NULL,"
+            + "x_axis      ENUM('1', '2', '3', '4', '5', '6', '7', '8'),"
+            + "y_axis      ENUM('1', '2', '3', '4', '5', '6', '7', '8'),"
+            + "piece_type  ENUM('PAWN', 'ROOK', 'KNIGHT', 'BISHOP', 'QUEEN', 'KING'),"
+            + "piece_color ENUM('WHITE', 'BLACK'),"
+            + "PRIMARY KEY (game_id, x_axis, y_axis),"
+            + "FOREIGN KEY (game_id) REFERENCES game (id) ON DELETE CASCADE)"
+        );
+        id = new GameDaoImpl(jdbcTemplate).createGameAndGetId(TEST_GAME_NAME, TEST_GAME_PASSWORD);
+    }
+
+    @DisplayName("체스판 데이터가 없는 게임은 빈 Board 를 반환한다.")
+    @Test
+    void getBoard_withoutBoardState() {
+        // given & when
+        Board board = packedBoardDao.getBoard(id);
+
+        // then
+        assertThat(board.getValue()).isEmpty();
+    }
+
+    @DisplayName("createPiece 와 deletePiece 는 game 테이블의 체스판 데이터를 변경한다.")
+    @Test
+    void createPiece_deletePiece() {
+        // given
+        Position position = Position.from("a1");
+        packedBoardDao.createPiece(CreatePieceDto.of(id, position, new Piece(PieceType.ROOK, PieceColor.WHITE)));
+        packedBoardDao.createPiece(
+            CreatePieceDto.of(id, Position.from("h8"), new Piece(PieceType.ROOK, PieceColor.BLACK)));
+
+        // when
+        packedBoardDao.deletePiece(DeletePieceDto.of(id, Position.from("h8")));
+
+        // then
+        Board board = packedBoardDao.getBoard(id);
+        assertThat(board.getValue()).hasSize(1);
+        assertThat(board.find(position).get().getPieceType()).isEqualTo(PieceType.ROOK);
+    }
+
+    @DisplayName("movePiece 는 한 번의 갱신으로 체스판과 차례를 저장한다.")
+    @Test
+    void movePiece() {
+        // given
+        packedBoardDao.createBoards(List.of(id), Board.createInitializedBoard());
+        ChessGame chessGame = packedBoardDao.getChessGame(id);
+        UpdatePiecePositionDto updatePiecePositionDto = UpdatePiecePositionDto.of(id, Position.from("b1"),
+            Position.from("c3"));
+        chessGame.movePiece(updatePiecePositionDto.getFrom(), updatePiecePositionDto.getTo());
+
+        // when
+        packedBoardDao.movePiece(updatePiecePositionDto, chessGame);
+
+        // then
+        ChessGame actual = packedBoardDao.getChessGame(id);
+        assertThat(actual.getCurrentTurn()).isEqualTo(PieceColor.BLACK);
+        assertThat(actual.positionKey()).isEqualTo(chessGame.positionKey());
+        assertThat(actual.getVersion()).isEqualTo(1);
+    }
+
+    @DisplayName("getVersion 은 체스판 데이터를 읽지 않고 게임의 버전만 반환한다.")
+    @Test
+    void getVersion() {
+        // given
+        packedBoardDao.createBoards(List.of(id), Board.createInitializedBoard());
+        ChessGame chessGame = packedBoardDao.getChessGame(id);
+        UpdatePiecePositionDto move = UpdatePiecePositionDto.of(id, Position.from("b1"), Position.from("c3"));
+        chessGame.movePiece(move.getFrom(), move.getTo());
+        packedBoardDao.movePiece(move, chessGame);
+
+        // when
+        int actual = packedBoardDao.getVersion(id);
+
+        // then
+        assertThat(actual).isEqualTo(1);
+    }
+
+    @DisplayName("movePiece 는 그 사이 다른 이동이 반영되었다면 false 를 반환하고 아무것도 바꾸지 않는다.")
+    @Test
+    void movePiece_conflict() {
+        // given
+        packedBoardDao.createBoards(List.of(id), Board.createInitializedBoard());
+        ChessGame first = packedBoardDao.getChessGame(id);
+        ChessGame stale = packedBoardDao.getChessGame(id);
+        UpdatePiecePositionDto firstMove = UpdatePiecePositionDto.of(id, Position.from("b1"), Position.from("c3"));
+        UpdatePiecePositionDto staleMove = UpdatePiecePositionDto.of(id, Position.from("a2"), Position.from("a3"));
+        first.movePiece(firstMove.getFrom(), firstMove.getTo());
+        stale.movePiece(staleMove.getFrom(), staleMove.getTo());
+        packedBoardDao.movePiece(firstMove, first);
+
+        // when
+        boolean actual = packedBoardDao.movePiece(staleMove, stale);
+
+        // then
+        assertThat(actual).isFalse();
+        assertThat(packedBoardDao.getChessGame(id).positionKey()).isEqualTo(first.positionKey());
+    }
+
+    @DisplayName("PackedBoardMigration 은 board 테이블의 기물을 game 테이블의 체스판 데이터로 옮긴다.")
+    @Test
+    void migrate() {
+        // given
+        BoardDaoImpl boardDao = new BoardDaoImpl(jdbcTemplate);
+        for (Position position : Board.createInitializedBoard().getValue().keySet()) {
+            Piece piece = Board.createInitializedBoard().find(position).get();
+            boardDao.createPiece(CreatePieceDto.of(id, position, piece));
+        }
+
+        // when
+        int actual = new PackedBoardMigration(jdbcTemplate).migrate();
+
+        // then
+        assertThat(actual).isEqualTo(1);
+        assertThat(packedBoardDao.getBoard(id).positionKey(PieceColor.WHITE))
+            .isEqualTo(Board.createInitializedBoard().positionKey(PieceColor.WHITE));
+    }
+
+    @DisplayName("옮길 게임이 없다면 PackedBoardMigration 은 아무것도 하지 않는다.")
+    @Test
+    void migrate_nothingToMigrate() {
+        // given
+        PackedBoardMigration packedBoardMigration = new PackedBoardMigration(jdbcTemplate);
+        packedBoardMigration.migrate();
+
+        // when
+        int actual = packedBoardMigration.migrate();
+
+        // then
+        assertThat(actual).isZero();
+    }
+}
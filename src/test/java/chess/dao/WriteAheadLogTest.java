@@ -0,0 +1,78 @@
+package chess.dao;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WriteAheadLogTest {
+    private static final int SEGMENT_BYTES = WriteAheadLog.ENTRY_BYTES * 4;
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("append 한 수는 같은 순서로 읽을 수 있다.")
+    @Test
+    void append_read() {
+        // given
+        WriteAheadLog writeAheadLog = WriteAheadLog.open(directory, SEGMENT_BYTES);
+
+        // when
+        writeAheadLog.append(1, 1, 8, 16);
+        writeAheadLog.append(2, 1, 52, 44);
+
+        // then
+        List<WriteAheadLog.Entry> actual = writeAheadLog.read(0, writeAheadLog.getAppendedCount());
+        assertThat(actual).hasSize(2);
+        assertThat(actual.get(1).getCount()).isEqualTo(2);
+        assertThat(actual.get(1).getGameId()).isEqualTo(2);
+        assertThat(actual.get(1).getVersion()).isEqualTo(1);
+        assertThat(actual.get(1).getFrom()).isEqualTo(52);
+        assertThat(actual.get(1).getTo()).isEqualTo(44);
+    }
+
+    @DisplayName("다시 열면 세그먼트를 넘어가며 기록한 수까지 복구한다.")
+    @Test
+    void open_recoversAppendedEntries() {
+        // given
+        WriteAheadLog writeAheadLog = WriteAheadLog.open(directory, SEGMENT_BYTES);
+        for (int version = 1; version <= 6; version++) {
+            writeAheadLog.append(1, version, 8, 16);
+        }
+        writeAheadLog.close();
+
+        // when
+        WriteAheadLog actual = WriteAheadLog.open(directory, SEGMENT_BYTES);
+
+        // then
+        assertThat(actual.getAppendedCount()).isEqualTo(6);
+        assertThat(actual.getDurableCount()).isEqualTo(6);
+        assertThat(actual.read(0, 6).get(5).getVersion()).isEqualTo(6);
+    }
+
+    @DisplayName("truncate 는 모두 반영된 세그먼트 파일만 지운다.")
+    @Test
+    void truncate() throws IOException {
+        // given
+        WriteAheadLog writeAheadLog = WriteAheadLog.open(directory, SEGMENT_BYTES);
+        for (int version = 1; version <= 10; version++) {
+            writeAheadLog.append(1, version, 8, 16);
+        }
+
+        // when
+        writeAheadLog.truncate(6);
+
+        // then
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.count()).isEqualTo(2);
+        }
+        assertThat(writeAheadLog.read(0, 10)).hasSize(6);
+    }
+}
@@ -0,0 +1,244 @@
+package chess.dao;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import chess.domain.board.Board;
+import chess.domain.game.ChessGame;
+import chess.domain.piece.PieceColor;
+import chess.domain.position.Position;
+import chess.dto.request.UpdatePiecePositionDto;
+import chess.service.BoardDaoFake;
+import chess.service.GameDaoFake;
+
+class WriteBehindBoardDaoTest {
+    private static final int SEGMENT_BYTES = WriteAheadLog.ENTRY_BYTES * 4;
+    private static final int MAX_FLUSH_SIZE = 100;
+
+    @TempDir
+    Path directory;
+
+    private GameDaoFake gameDaoFake;
+    private BoardDaoFake boardDaoFake;
+    private int id;
+
+    @BeforeEach
+    void setUp() {
+        gameDaoFake = new GameDaoFake();
+        boardDaoFake = new BoardDaoFake(gameDaoFake);
+        id = gameDaoFake.createGameAndGetId("test", "password");
+        boardDaoFake.createBoards(List.of(id), Board.createInitializedBoard());
+    }
+
+    private WriteBehindBoardDao openDao() {
+        return openDao(boardDaoFake);
+    }
+
+    private WriteBehindBoardDao openDao(BoardDao delegate) {
+        WriteBehindBoardDao writeBehindBoardDao = new WriteBehindBoardDao(delegate,
+            WriteAheadLog.open(directory, SEGMENT_BYTES), new TransactionTemplate(new NoOpTransactionManager()),
+            directory, MAX_FLUSH_SIZE);
+        writeBehindBoardDao.recover();
+        return writeBehindBoardDao;
+    }
+
+    private boolean move(WriteBehindBoardDao writeBehindBoardDao, String from, String to) {
+        ChessGame chessGame = writeBehindBoardDao.getChessGame(id);
+        UpdatePiecePositionDto updatePiecePositionDto = UpdatePiecePositionDto.of(id, Position.from(from),
+            Position.from(to));
+        chessGame.movePiece(updatePiecePositionDto.getFrom(), updatePiecePositionDto.getTo());
+        return writeBehindBoardDao.movePiece(updatePiecePositionDto, chessGame);
+    }
+
+    @DisplayName("movePiece 는 DB에 쓰기 전에 메모리의 게임에 바로 반영된다.")
+    @Test
+    void movePiece_servedFromMemory() {
+        // given
+        WriteBehindBoardDao writeBehindBoardDao = openDao();
+
+        // when
+        boolean actual = move(writeBehindBoardDao, "a2", "a3");
+
+        // then
+        assertThat(actual).isTrue();
+        assertThat(writeBehindBoardDao.getChessGame(id).getCurrentTurn()).isEqualTo(PieceColor.BLACK);
+        assertThat(boardDaoFake.getChessGame(id).getVersion()).isZero();
+    }
+
+    @DisplayName("이미 다음 버전이 반영된 게임에 이전 버전의 수를 쓰면 false 를 반환한다.")
+    @Test
+    void movePiece_conflict() {
+        // given
+        WriteBehindBoardDao writeBehindBoardDao = openDao();
+        ChessGame stale = writeBehindBoardDao.getChessGame(id);
+        move(writeBehindBoardDao, "a2", "a3");
+        UpdatePiecePositionDto updatePiecePositionDto = UpdatePiecePositionDto.of(id, Position.from("b2"),
+            Position.from("b3"));
+        stale.movePiece(updatePiecePositionDto.getFrom(), updatePiecePositionDto.getTo());
+
+        // when
+        boolean actual = writeBehindBoardDao.movePiece(updatePiecePositionDto, stale);
+
+        // then
+        assertThat(actual).isFalse();
+    }
+
+    @DisplayName("DB에 반영되어 메모리에서 내려간 게임에 이전 버전의 수를 쓰면 false 를 반환한다.")
+    @Test
+    void movePiece_conflictAfterEviction() {
+        // given
+        WriteBehindBoardDao writeBehindBoardDao = openDao();
+        ChessGame stale = writeBehindBoardDao.getChessGame(id);
+        move(writeBehindBoardDao, "a2", "a3");
+        writeBehindBoardDao.flush();
+        UpdatePiecePositionDto updatePiecePositionDto = UpdatePiecePositionDto.of(id, Position.from("b2"),
+            Position.from("b3"));
+        stale.movePiece(updatePiecePositionDto.getFrom(), updatePiecePositionDto.getTo());
+
+        // when
+        boolean actual = writeBehindBoardDao.movePiece(updatePiecePositionDto, stale);
+
+        // then
+        assertThat(actual).isFalse();
+        assertThat(writeBehindBoardDao.getLiveGameCount()).isZero();
+        assertThat(writeBehindBoardDao.getChessGame(id).positionKey())
+            .isEqualTo(boardDaoFake.getChessGame(id).positionKey());
+    }
+
+    @DisplayName("flush 는 WAL 의 수를 DB에 반영하고 메모리의 게임을 내려놓는다.")
+    @Test
+    void flush() {
+        // given
+        WriteBehindBoardDao writeBehindBoardDao = openDao();
+        move(writeBehindBoardDao, "a2", "a3");
+        move(writeBehindBoardDao, "a7", "a6");
+
+        // when
+        int actual = writeBehindBoardDao.flush();
+
+        // then
+        assertThat(actual).isEqualTo(2);
+        assertThat(boardDaoFake.getChessGame(id).getVersion()).isEqualTo(2);
+        assertThat(writeBehindBoardDao.getLiveGameCount()).isZero();
+        assertThat(writeBehindBoardDao.getFlushedCount()).isEqualTo(2);
+    }
+
+    @DisplayName("비정상 종료 후에는 DB에 반영되지 않은 WAL 의 수를 다시 둔다.")
+    @Test
+    void recover_replaysUnflushedEntries() {
+        // given
+        WriteBehindBoardDao crashed = openDao();
+        move(crashed, "a2", "a3");
+        move(crashed, "a7", "a6");
+
+        // when
+        WriteBehindBoardDao actual = openDao();
+
+        // then
+        assertThat(actual.getChessGame(id).getVersion()).isEqualTo(2);
+        assertThat(actual.getChessGame(id).getCurrentTurn()).isEqualTo(PieceColor.WHITE);
+    }
+
+    @DisplayName("정상 종료하면 메모리의 게임을 스냅샷으로 남기고 다시 시작할 때 불러온다.")
+    @Test
+    void close_dumpsSnapshot() {
+        // given
+        WriteBehindBoardDao writeBehindBoardDao = openDao();
+        move(writeBehindBoardDao, "a2", "a3");
+
+        // when
+        writeBehindBoardDao.close();
+        WriteBehindBoardDao actual = openDao();
+
+        // then
+        assertThat(actual.getLiveGameCount()).isEqualTo(1);
+        assertThat(actual.getChessGame(id).getVersion()).isEqualTo(1);
+        assertThat(Files.exists(directory.resolve("games.snapshot"))).isFalse();
+    }
+
+    @DisplayName("트랜잭션이 롤백되면 그 트랜잭션에서 둔 수는 메모리와 DB 어디에도 남지 않는다.")
+    @Test
+    void movePiece_rolledBack() {
+        // given
+        WriteBehindBoardDao writeBehindBoardDao = openDao();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            move(writeBehindBoardDao, "a2", "a3");
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+
+            // when
+            synchronizations.forEach(
+                synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(writeBehindBoardDao.getChessGame(id).getVersion()).isZero();
+        assertThat(openDao().getChessGame(id).getVersion()).isZero();
+        writeBehindBoardDao.flush();
+        assertThat(boardDaoFake.getChessGame(id).getVersion()).isZero();
+    }
+
+    @DisplayName("DB에 반영하지 못한 수가 있으면 그 수부터는 체크포인트를 옮기지 않고 WAL 도 지우지 않는다.")
+    @Test
+    void flush_stopsAtUnflushedEntry() throws IOException {
+        // given
+        BoardDao rejectingDelegate = new BoardDaoFake(gameDaoFake) {
+            @Override
+            public boolean movePiece(UpdatePiecePositionDto updatePiecePositionDto, ChessGame chessGame) {
+                return false;
+            }
+        };
+        rejectingDelegate.createBoards(List.of(id), Board.createInitializedBoard());
+        WriteBehindBoardDao writeBehindBoardDao = openDao(rejectingDelegate);
+        for (String[] fromTo : new String[][] {{"a2", "a3"}, {"a7", "a6"}, {"b2", "b3"}, {"b7", "b6"}, {"c2", "c3"}}) {
+            move(writeBehindBoardDao, fromTo[0], fromTo[1]);
+        }
+
+        // when
+        int actual = writeBehindBoardDao.flush();
+
+        // then
+        assertThat(actual).isZero();
+        assertThat(writeBehindBoardDao.getFlushedCount()).isZero();
+        assertThat(writeBehindBoardDao.getLiveGameCount()).isEqualTo(1);
+        assertThat(writeBehindBoardDao.getChessGame(id).getVersion()).isEqualTo(5);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.filter(file -> file.toString().endsWith(".wal")).count()).isEqualTo(2);
+        }
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package chess.domain.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.domain.piece.PieceColor;
+import chess.domain.piece.PieceType;
+import chess.domain.position.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BitBoardTest {
+
+    @DisplayName("put 으로 놓은 기물은 kindAt 으로 다시 찾을 수 있다.")
+    @Test
+    void put_kindAt() {
+        // given
+        BitBoard bitBoard = new BitBoard();
+        int kind = BitBoard.kindOf(PieceType.QUEEN, PieceColor.BLACK);
+
+        // when
+        bitBoard.put(27, kind);
+
+        // then
+        assertThat(bitBoard.kindAt(27)).isEqualTo(kind);
+        assertThat(bitBoard.isEmpty(27)).isFalse();
+    }
+
+    @DisplayName("remove 는 제거한 기물의 종류를 반환하고 칸을 비운다.")
+    @Test
+    void remove_returnsRemovedKind() {
+        // given
+        BitBoard bitBoard = new BitBoard();
+        int kind = BitBoard.kindOf(PieceType.ROOK, PieceColor.WHITE);
+        bitBoard.put(0, kind);
+
+        // when
+        int actual = bitBoard.remove(0);
+
+        // then
+        assertThat(actual).isEqualTo(kind);
+        assertThat(bitBoard.kindAt(0)).isEqualTo(BitBoard.EMPTY);
+        assertThat(bitBoard.getOccupied()).isZero();
+    }
+
+    @DisplayName("between 은 같은 직선 위 두 칸 사이의 칸들을 마스크로 반환한다.")
+    @Test
+    void between_returnsMaskOnSameLine() {
+        // given
+        int a1 = Position.from("a1").getIndex();
+        int d4 = Position.from("d4").getIndex();
+
+        // when
+        long actual = BitBoard.between(a1, d4);
+
+        // then
+        long expected = 1L << Position.from("b2").getIndex() | 1L << Position.from("c3").getIndex();
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @DisplayName("between 은 같은 직선 위에 있지 않은 두 칸에 대해 0을 반환한다.")
+    @Test
+    void between_returnsZeroOnDifferentLine() {
+        // given
+        int a1 = Position.from("a1").getIndex();
+        int b3 = Position.from("b3").getIndex();
+
+        // when & then
+        assertThat(BitBoard.between(a1, b3)).isZero();
+    }
+
+    @DisplayName("countPieces 는 특정 열에 있는 특정 기물의 수를 센다.")
+    @Test
+    void countPieces() {
+        // given
+        BitBoard bitBoard = new BitBoard();
+        int pawn = BitBoard.kindOf(PieceType.PAWN, PieceColor.WHITE);
+        bitBoard.put(Position.from("b2").getIndex(), pawn);
+        bitBoard.put(Position.from("b3").getIndex(), pawn);
+        bitBoard.put(Position.from("c3").getIndex(), pawn);
+
+        // when
+        int actual = bitBoard.countPieces(PieceType.PAWN, PieceColor.WHITE, 1);
+
+        // then
+        assertThat(actual).isEqualTo(2);
+    }
+}
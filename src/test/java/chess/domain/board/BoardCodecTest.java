@@ -0,0 +1,61 @@
+package chess.domain.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.domain.piece.PieceColor;
+import chess.domain.position.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoardCodecTest {
+
+    @DisplayName("encode 는 체스판을 32바이트로 표현한다.")
+    @Test
+    void encode_returns32Bytes() {
+        // given
+        Board board = Board.createInitializedBoard();
+
+        // when
+        byte[] actual = BoardCodec.encode(board);
+
+        // then
+        assertThat(actual).hasSize(32);
+    }
+
+    @DisplayName("decode 는 encode 한 체스판과 같은 배치의 체스판을 반환한다.")
+    @Test
+    void decode_restoresEncodedBoard() {
+        // given
+        Board board = Board.createInitializedBoard();
+        board.makeMove(Position.from("b2"), Position.from("g7"));
+
+        // when
+        Board actual = BoardCodec.decode(BoardCodec.encode(board));
+
+        // then
+        assertThat(actual.positionKey(PieceColor.WHITE)).isEqualTo(board.positionKey(PieceColor.WHITE));
+        assertThat(actual.getMaterialScore(PieceColor.BLACK)).isEqualTo(board.getMaterialScore(PieceColor.BLACK));
+    }
+
+    @DisplayName("decode 는 길이가 32바이트가 아니라면 예외를 던진다.")
+    @Test
+    void decode_throwsExceptionOnInvalidLength() {
+        assertThatThrownBy(() -> BoardCodec.decode(new byte[31]))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("잘못된 체스판 데이터입니다.");
+    }
+
+    @DisplayName("decode 는 존재하지 않는 기물 값이 있다면 예외를 던진다.")
+    @Test
+    void decode_throwsExceptionOnInvalidPiece() {
+        // given
+        byte[] encoded = new byte[BoardCodec.ENCODED_SIZE];
+        encoded[0] = 0x0F;
+
+        // when & then
+        assertThatThrownBy(() -> BoardCodec.decode(encoded))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("잘못된 체스판 데이터입니다.");
+    }
+}
@@ -4,10 +4,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import chess.domain.piece.Piece;
 import chess.domain.piece.PieceColor;
+import chess.domain.piece.PieceFactory;
 import chess.domain.piece.PieceType;
 import chess.domain.position.Position;
 import chess.domain.position.XAxis;
 import chess.domain.position.YAxis;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -289,4 +292,168 @@ class BoardTest {
         // then
         assertThat(actual).isTrue();
     }
+
+    @DisplayName("makeMove 로 잡은 기물은 unmakeMove 로 원래 자리에 되돌아온다.")
+    @Test
+    void unmakeMove_restoresCapturedPiece() {
+        // given
+        Board board = Board.createInitializedBoard();
+        board.executeCommand(Position.of(XAxis.B, YAxis.ONE), Position.of(XAxis.C, YAxis.THREE), PieceColor.WHITE);
+        board.executeCommand(Position.of(XAxis.C, YAxis.THREE), Position.of(XAxis.D, YAxis.FIVE), PieceColor.WHITE);
+
+        // when
+        int undo = board.makeMove(Position.of(XAxis.D, YAxis.FIVE), Position.of(XAxis.E, YAxis.SEVEN));
+        board.unmakeMove(undo);
+
+        // then
+        assertThat(UndoRecord.capturedPiece(undo).getPieceType()).isEqualTo(PieceType.PAWN);
+        assertThat(UndoRecord.previousTurn(undo)).isEqualTo(PieceColor.WHITE);
+        assertThat(board.find(Position.of(XAxis.D, YAxis.FIVE)).get().getPieceType()).isEqualTo(PieceType.KNIGHT);
+        assertThat(board.find(Position.of(XAxis.E, YAxis.SEVEN)).get().getPieceColor()).isEqualTo(PieceColor.BLACK);
+    }
+
+    @DisplayName("빈 칸으로의 makeMove 는 unmakeMove 후 빈 칸으로 남는다.")
+    @Test
+    void unmakeMove_restoresEmptyPlace() {
+        // given
+        Board board = Board.createInitializedBoard();
+
+        // when
+        int undo = board.makeMove(Position.of(XAxis.A, YAxis.TWO), Position.of(XAxis.A, YAxis.FOUR));
+        board.unmakeMove(undo);
+
+        // then
+        assertThat(UndoRecord.hasCaptured(undo)).isFalse();
+        assertThat(board.find(Position.of(XAxis.A, YAxis.FOUR)).isEmpty()).isTrue();
+        assertThat(board.find(Position.of(XAxis.A, YAxis.TWO)).get().getPieceType()).isEqualTo(PieceType.PAWN);
+    }
+
+    @DisplayName("같은 배치에 같은 차례라면 이동 순서와 관계없이 positionKey 가 같다.")
+    @Test
+    void positionKey_sameOnTransposition() {
+        // given
+        Board board = Board.createInitializedBoard();
+        Board otherBoard = Board.createInitializedBoard();
+
+        // when
+        board.executeCommand(Position.of(XAxis.B, YAxis.ONE), Position.of(XAxis.C, YAxis.THREE), PieceColor.WHITE);
+        board.executeCommand(Position.of(XAxis.G, YAxis.ONE), Position.of(XAxis.F, YAxis.THREE), PieceColor.WHITE);
+        otherBoard.executeCommand(Position.of(XAxis.G, YAxis.ONE), Position.of(XAxis.F, YAxis.THREE), PieceColor.WHITE);
+        otherBoard.executeCommand(Position.of(XAxis.B, YAxis.ONE), Position.of(XAxis.C, YAxis.THREE), PieceColor.WHITE);
+
+        // then
+        assertThat(board.positionKey(PieceColor.BLACK)).isEqualTo(otherBoard.positionKey(PieceColor.BLACK));
+        assertThat(board.positionKey(PieceColor.BLACK)).isNotEqualTo(board.positionKey(PieceColor.WHITE));
+    }
+
+    @DisplayName("unmakeMove 후의 positionKey 는 이동 전과 같다.")
+    @Test
+    void positionKey_restoredByUnmakeMove() {
+        // given
+        Board board = Board.createInitializedBoard();
+        long expected = board.positionKey(PieceColor.WHITE);
+
+        // when
+        int undo = board.makeMove(Position.of(XAxis.B, YAxis.TWO), Position.of(XAxis.G, YAxis.SEVEN));
+        long moved = board.positionKey(PieceColor.WHITE);
+        board.unmakeMove(undo);
+
+        // then
+        assertThat(moved).isNotEqualTo(expected);
+        assertThat(board.positionKey(PieceColor.WHITE)).isEqualTo(expected);
+    }
+
+    @DisplayName("기물을 잡으면 잡힌 쪽의 점수가 줄고, unmakeMove 후에는 원래 점수로 돌아온다.")
+    @Test
+    void getMaterialScore_updatedByCapture() {
+        // given
+        Board board = Board.createInitializedBoard();
+
+        // when
+        int undo = board.makeMove(Position.of(XAxis.B, YAxis.TWO), Position.of(XAxis.G, YAxis.SEVEN));
+        double captured = board.getMaterialScore(PieceColor.BLACK);
+        board.unmakeMove(undo);
+
+        // then
+        assertThat(captured).isEqualTo(37);
+        assertThat(board.getMaterialScore(PieceColor.BLACK)).isEqualTo(38);
+    }
+
+    @DisplayName("폰이 같은 열로 들어오면 그 열의 폰 수가 중복 폰 수에 더해진다.")
+    @Test
+    void getDuplicatedPawnCount_updatedByMove() {
+        // given
+        Board board = Board.createInitializedBoard();
+
+        // when
+        board.makeMove(Position.of(XAxis.A, YAxis.TWO), Position.of(XAxis.B, YAxis.THREE));
+
+        // then
+        assertThat(board.getDuplicatedPawnCount(PieceColor.WHITE)).isEqualTo(2);
+        assertThat(board.getDuplicatedPawnCountByXAxis(PieceColor.WHITE, XAxis.A)).isZero();
+    }
+
+    @DisplayName("상대 기물이 킹을 공격하고 있다면 체크이다.")
+    @Test
+    void isCheck() {
+        // given
+        Map<Position, Piece> pieces = new HashMap<>();
+        pieces.put(Position.from("e1"), PieceFactory.createKing(PieceColor.WHITE));
+        pieces.put(Position.from("e8"), PieceFactory.createKing(PieceColor.BLACK));
+        pieces.put(Position.from("e5"), PieceFactory.createRook(PieceColor.BLACK));
+        Board board = Board.from(pieces);
+
+        // when & then
+        assertThat(board.isCheck(PieceColor.WHITE)).isTrue();
+        assertThat(board.isCheck(PieceColor.BLACK)).isFalse();
+    }
+
+    @DisplayName("체크 상태에서 킹을 지킬 수 있는 수가 없다면 체크메이트이다.")
+    @Test
+    void isCheckmate() {
+        // given
+        Map<Position, Piece> pieces = new HashMap<>();
+        pieces.put(Position.from("a1"), PieceFactory.createKing(PieceColor.WHITE));
+        pieces.put(Position.from("a8"), PieceFactory.createRook(PieceColor.WHITE));
+        pieces.put(Position.from("b7"), PieceFactory.createRook(PieceColor.WHITE));
+        pieces.put(Position.from("h8"), PieceFactory.createKing(PieceColor.BLACK));
+        Board board = Board.from(pieces);
+
+        // when & then
+        assertThat(board.isCheckmate(PieceColor.BLACK)).isTrue();
+        assertThat(board.isStalemate(PieceColor.BLACK)).isFalse();
+    }
+
+    @DisplayName("체크가 아니지만 킹을 지킬 수 있는 수가 없다면 스테일메이트이다.")
+    @Test
+    void isStalemate() {
+        // given
+        Map<Position, Piece> pieces = new HashMap<>();
+        pieces.put(Position.from("h1"), PieceFactory.createKing(PieceColor.WHITE));
+        pieces.put(Position.from("b6"), PieceFactory.createQueen(PieceColor.WHITE));
+        pieces.put(Position.from("a8"), PieceFactory.createKing(PieceColor.BLACK));
+        Board board = Board.from(pieces);
+
+        // when & then
+        assertThat(board.isStalemate(PieceColor.BLACK)).isTrue();
+        assertThat(board.isCheckmate(PieceColor.BLACK)).isFalse();
+    }
+
+    @DisplayName("킹의 줄에 걸린 기물은 킹을 드러내는 수를 둘 수 없다.")
+    @Test
+    void hasLegalMove_pinnedPiece() {
+        // given
+        Map<Position, Piece> pieces = new HashMap<>();
+        pieces.put(Position.from("a1"), PieceFactory.createKing(PieceColor.WHITE));
+        pieces.put(Position.from("g1"), PieceFactory.createRook(PieceColor.WHITE));
+        pieces.put(Position.from("h1"), PieceFactory.createRook(PieceColor.WHITE));
+        pieces.put(Position.from("h7"), PieceFactory.createBishop(PieceColor.BLACK));
+        pieces.put(Position.from("h8"), PieceFactory.createKing(PieceColor.BLACK));
+        Board board = Board.from(pieces);
+
+        // when & then
+        assertThat(board.hasLegalMove(PieceColor.BLACK)).isFalse();
+        assertThat(board.isStalemate(PieceColor.BLACK)).isTrue();
+        assertThat(board.hasLegalMove(PieceColor.WHITE)).isTrue();
+    }
 }
@@ -0,0 +1,53 @@
+package chess.domain.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.domain.piece.PieceColor;
+import chess.domain.position.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MoveGeneratorTest {
+
+    @DisplayName("generate 는 executeCommand 가 성공하는 모든 이동을 나열한다.")
+    @Test
+    void generate_sameAsExecuteCommand() {
+        // given
+        Board board = Board.createInitializedBoard();
+        board.executeCommand(Position.from("e2"), Position.from("e4"), PieceColor.WHITE);
+        board.executeCommand(Position.from("d7"), Position.from("d5"), PieceColor.BLACK);
+        MoveList moves = new MoveList();
+
+        // when
+        MoveGenerator.generate(board, PieceColor.WHITE, moves);
+
+        // then
+        int expected = 0;
+        for (Position from : Position.getAllPositions()) {
+            for (Position to : Position.getAllPositions()) {
+                if (board.copy().executeCommand(from, to, PieceColor.WHITE).isMoveSuccess()) {
+                    expected++;
+                }
+            }
+        }
+        assertThat(moves.size()).isEqualTo(expected);
+    }
+
+    @DisplayName("한쪽 킹이 죽었다면 이동을 나열하지 않는다.")
+    @Test
+    void generate_returnsNothingOnKilledKing() {
+        // given
+        Board board = Board.createInitializedBoard();
+        board.executeCommand(Position.from("b1"), Position.from("c3"), PieceColor.WHITE);
+        board.executeCommand(Position.from("c3"), Position.from("b5"), PieceColor.WHITE);
+        board.executeCommand(Position.from("b5"), Position.from("c7"), PieceColor.WHITE);
+        board.executeCommand(Position.from("c7"), Position.from("e8"), PieceColor.WHITE);
+        MoveList moves = new MoveList();
+
+        // when
+        MoveGenerator.generate(board, PieceColor.BLACK, moves);
+
+        // then
+        assertThat(moves.isEmpty()).isTrue();
+    }
+}
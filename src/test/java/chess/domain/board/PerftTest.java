@@ -0,0 +1,43 @@
+package chess.domain.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.domain.piece.PieceColor;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+// 이 저장소의 폰은 대각선 방향이면 거리와 상관없이 잡을 수 있어(a2 -> f7 등) 표준 perft 값(20, 400, 8902)과 다르다.
+class PerftTest {
+
+    @DisplayName("초기 체스판에서 주어진 깊이까지의 노드 수를 센다.")
+    @ParameterizedTest(name = "depth {0} => {1}")
+    @CsvSource(value = {"0,1", "1,26", "2,668", "3,18433"})
+    void count(int depth, long expected) {
+        // given
+        Board board = Board.createInitializedBoard();
+
+        // when
+        long actual = Perft.count(board, PieceColor.WHITE, depth);
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @DisplayName("루트 이동을 ForkJoinPool 에 나누어 세어도 결과가 같다.")
+    @ParameterizedTest(name = "depth {0} => {1}")
+    @CsvSource(value = {"1,26", "2,668", "3,18433", "4,506685"})
+    void countInParallel(int depth, long expected) {
+        // given
+        Board board = Board.createInitializedBoard();
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        // when
+        PerftResult actual = Perft.measure(board, PieceColor.WHITE, depth, pool);
+
+        // then
+        assertThat(actual.getNodes()).isEqualTo(expected);
+        pool.shutdown();
+    }
+}
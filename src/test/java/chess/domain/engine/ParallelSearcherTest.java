@@ -0,0 +1,61 @@
+package chess.domain.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import chess.domain.board.Board;
+import chess.domain.piece.PieceColor;
+
+class ParallelSearcherTest {
+
+    private ExecutorService helperExecutor;
+    private ParallelSearcher parallelSearcher;
+
+    @BeforeEach
+    void setUp() {
+        helperExecutor = Executors.newCachedThreadPool();
+        parallelSearcher = new ParallelSearcher(new TranspositionTable(1 << 16), helperExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        helperExecutor.shutdownNow();
+    }
+
+    @DisplayName("여러 스레드로 탐색해도 요청한 깊이까지 탐색하고 체스판을 원래대로 되돌린다.")
+    @Test
+    void search_withHelpers() {
+        // given
+        Board board = Board.createInitializedBoard();
+        long expected = board.positionKey(PieceColor.WHITE);
+
+        // when
+        SearchResult actual = parallelSearcher.search(board, PieceColor.WHITE, 1000, 3, 4);
+
+        // then
+        assertThat(actual.hasMove()).isTrue();
+        assertThat(actual.getDepth()).isEqualTo(3);
+        assertThat(board.positionKey(PieceColor.WHITE)).isEqualTo(expected);
+    }
+
+    @DisplayName("스레드가 하나라면 단일 탐색과 같은 수를 고른다.")
+    @Test
+    void search_singleThread() {
+        // given
+        Board board = Board.createInitializedBoard();
+
+        // when
+        SearchResult actual = parallelSearcher.search(board, PieceColor.WHITE, 1000, 3, 1);
+        SearchResult expected = new Searcher().search(board, PieceColor.WHITE, 1000, 3);
+
+        // then
+        assertThat(actual.getScore()).isEqualTo(expected.getScore());
+    }
+}
@@ -0,0 +1,81 @@
+package chess.domain.engine;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import chess.domain.board.Board;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceColor;
+import chess.domain.piece.PieceFactory;
+import chess.domain.position.Position;
+
+class SearcherTest {
+
+    @DisplayName("상대 킹을 잡을 수 있다면 킹을 잡는 수를 고른다.")
+    @Test
+    void search_capturesKing() {
+        // given
+        Map<Position, Piece> pieces = new HashMap<>();
+        pieces.put(Position.from("a1"), PieceFactory.createKing(PieceColor.WHITE));
+        pieces.put(Position.from("d1"), PieceFactory.createRook(PieceColor.WHITE));
+        pieces.put(Position.from("d8"), PieceFactory.createKing(PieceColor.BLACK));
+        pieces.put(Position.from("h8"), PieceFactory.createQueen(PieceColor.BLACK));
+        Board board = Board.from(pieces);
+
+        // when
+        SearchResult actual = new Searcher().search(board, PieceColor.WHITE, 1000, 4);
+
+        // then
+        assertThat(actual.getFrom()).isEqualTo(Position.from("d1"));
+        assertThat(actual.getTo()).isEqualTo(Position.from("d8"));
+    }
+
+    @DisplayName("탐색이 끝난 뒤 체스판은 탐색 전과 같다.")
+    @Test
+    void search_restoresBoard() {
+        // given
+        Board board = Board.createInitializedBoard();
+        long expected = board.positionKey(PieceColor.WHITE);
+
+        // when
+        new Searcher().search(board, PieceColor.WHITE, 100, 4);
+
+        // then
+        assertThat(board.positionKey(PieceColor.WHITE)).isEqualTo(expected);
+    }
+
+    @DisplayName("탐색 결과는 도달한 깊이와 탐색한 노드 수를 가진다.")
+    @Test
+    void search_reportsDepthAndNodes() {
+        // given
+        Board board = Board.createInitializedBoard();
+
+        // when
+        SearchResult actual = new Searcher().search(board, PieceColor.WHITE, 1000, 3);
+
+        // then
+        assertThat(actual.hasMove()).isTrue();
+        assertThat(actual.getDepth()).isEqualTo(3);
+        assertThat(actual.getNodes()).isPositive();
+    }
+
+    @DisplayName("중단 요청이 남은 Searcher 로 다시 탐색하지 않도록 두 번째 탐색은 예외를 던진다.")
+    @Test
+    void search_throwsExceptionOnReuse() {
+        // given
+        Board board = Board.createInitializedBoard();
+        Searcher searcher = new Searcher();
+        searcher.search(board, PieceColor.WHITE, 100, 1);
+        searcher.abort();
+
+        // when & then
+        assertThatThrownBy(() -> searcher.search(board, PieceColor.WHITE, 100, 1))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("한 번 탐색한 Searcher 는 다시 사용할 수 없습니다.");
+    }
+}
@@ -0,0 +1,59 @@
+package chess.domain.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TranspositionTableTest {
+
+    @DisplayName("저장한 국면은 같은 키로 조회하면 수, 깊이, 경계, 점수를 그대로 돌려준다.")
+    @Test
+    void store_probe() {
+        // given
+        TranspositionTable transpositionTable = new TranspositionTable(1024);
+        long key = 0x1234_5678_9ABC_DEF0L;
+
+        // when
+        transpositionTable.store(key, 777, 5, TranspositionTable.LOWER_BOUND, -350);
+        long actual = transpositionTable.probe(key);
+
+        // then
+        assertThat(TranspositionTable.moveOf(actual)).isEqualTo(777);
+        assertThat(TranspositionTable.depthOf(actual)).isEqualTo(5);
+        assertThat(TranspositionTable.boundOf(actual)).isEqualTo(TranspositionTable.LOWER_BOUND);
+        assertThat(TranspositionTable.scoreOf(actual)).isEqualTo(-350);
+    }
+
+    @DisplayName("같은 칸을 쓰는 다른 국면의 키로 조회하면 NOT_FOUND 를 반환한다.")
+    @Test
+    void probe_differentKey() {
+        // given
+        TranspositionTable transpositionTable = new TranspositionTable(1);
+        transpositionTable.store(1L, 10, 3, TranspositionTable.EXACT, 20);
+
+        // when & then
+        assertThat(transpositionTable.probe(2L)).isEqualTo(TranspositionTable.NOT_FOUND);
+    }
+
+    @DisplayName("같은 국면을 더 얕은 깊이의 경계값으로 덮어쓰지 않는다.")
+    @Test
+    void store_keepsDeeperEntry() {
+        // given
+        TranspositionTable transpositionTable = new TranspositionTable(16);
+        long key = 42L;
+        transpositionTable.store(key, 10, 6, TranspositionTable.EXACT, 100);
+
+        // when
+        transpositionTable.store(key, 11, 2, TranspositionTable.UPPER_BOUND, -100);
+
+        // then
+        assertThat(TranspositionTable.depthOf(transpositionTable.probe(key))).isEqualTo(6);
+    }
+
+    @DisplayName("용량은 요청한 개수 이하의 2의 거듭제곱으로 맞춘다.")
+    @Test
+    void capacity() {
+        assertThat(new TranspositionTable(1000).capacity()).isEqualTo(512);
+    }
+}
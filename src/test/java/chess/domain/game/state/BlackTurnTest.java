@@ -2,12 +2,19 @@ package chess.domain.game.state;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import chess.domain.board.Board;
+import chess.domain.game.GameResult;
 import chess.domain.game.score.ScoreResult;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceColor;
+import chess.domain.piece.PieceFactory;
 import chess.domain.position.Position;
 import chess.domain.position.XAxis;
 import chess.domain.position.YAxis;
@@ -85,4 +92,40 @@ class BlackTurnTest {
         // then
         assertThat(actual).isInstanceOf(WhiteTurn.class);
     }
+
+    @DisplayName("체크메이트를 당했다면 기물을 움직일 수 없고 상대 팀이 승리한다.")
+    @Test
+    void move_throwsExceptionOnCheckmate() {
+        // given
+        Map<Position, Piece> pieces = new HashMap<>();
+        pieces.put(Position.from("a1"), PieceFactory.createKing(PieceColor.WHITE));
+        pieces.put(Position.from("a8"), PieceFactory.createRook(PieceColor.WHITE));
+        pieces.put(Position.from("b7"), PieceFactory.createRook(PieceColor.WHITE));
+        pieces.put(Position.from("h8"), PieceFactory.createKing(PieceColor.BLACK));
+        GameState checkmated = new BlackTurn(Board.from(pieces));
+
+        // when & then
+        assertThatThrownBy(() -> checkmated.move(Position.from("h8"), Position.from("g8")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("체크메이트이므로 더이상 게임을 진행할 수 없습니다.");
+        assertThat(checkmated.getWinColor()).isEqualTo(PieceColor.WHITE);
+    }
+
+    @DisplayName("스테일메이트라면 기물을 움직일 수 없고 승자 없이 무승부가 된다.")
+    @Test
+    void move_throwsExceptionOnStalemate() {
+        // given
+        Map<Position, Piece> pieces = new HashMap<>();
+        pieces.put(Position.from("h1"), PieceFactory.createKing(PieceColor.WHITE));
+        pieces.put(Position.from("b6"), PieceFactory.createQueen(PieceColor.WHITE));
+        pieces.put(Position.from("a8"), PieceFactory.createKing(PieceColor.BLACK));
+        GameState stalemated = new BlackTurn(Board.from(pieces));
+
+        // when & then
+        assertThatThrownBy(() -> stalemated.move(Position.from("a8"), Position.from("a7")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("스테일메이트이므로 더이상 게임을 진행할 수 없습니다.");
+        assertThat(stalemated.getResult()).isEqualTo(GameResult.DRAW);
+        assertThat(stalemated.getWinColor()).isNull();
+    }
 }
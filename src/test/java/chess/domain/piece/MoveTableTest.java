@@ -0,0 +1,65 @@
+package chess.domain.piece;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.domain.piece.movingstrategy.KnightMovingStrategy;
+import chess.domain.piece.movingstrategy.MovingStrategy;
+import chess.domain.piece.movingstrategy.PawnMovingStrategy;
+import chess.domain.piece.movingstrategy.QueenMovingStrategy;
+import chess.domain.position.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MoveTableTest {
+
+    @DisplayName("MoveTable 은 모든 위치 쌍에 대해 MovingStrategy 와 같은 결과를 반환한다.")
+    @Test
+    void from_sameAsMovingStrategy() {
+        for (MovingStrategy movingStrategy : new MovingStrategy[] {
+            new PawnMovingStrategy(), new KnightMovingStrategy(), new QueenMovingStrategy()}) {
+            MoveTable moveTable = MoveTable.from(movingStrategy);
+
+            for (PieceColor pieceColor : PieceColor.values()) {
+                for (Position from : Position.getAllPositions()) {
+                    for (Position to : Position.getAllPositions()) {
+                        assertThat(moveTable.isAbleToMove(from, to, pieceColor))
+                            .isEqualTo(movingStrategy.isAbleToMove(from, to, pieceColor));
+                        assertThat(moveTable.isAbleToAttack(from, to, pieceColor))
+                            .isEqualTo(movingStrategy.isAbleToAttack(from, to, pieceColor));
+                    }
+                }
+            }
+        }
+    }
+
+    @DisplayName("lineOfSight 는 빈 체스판의 d4에서 퀸이 닿는 27칸을 반환한다.")
+    @Test
+    void lineOfSight_onEmptyBoard() {
+        // given
+        int d4 = Position.from("d4").getIndex();
+
+        // when
+        long actual = MoveTable.lineOfSight(d4, 0L);
+
+        // then
+        assertThat(Long.bitCount(actual)).isEqualTo(27);
+    }
+
+    @DisplayName("lineOfSight 는 가장 가까운 기물까지 포함하고 그 뒤의 칸은 제외한다.")
+    @Test
+    void lineOfSight_stopsAtBlocker() {
+        // given
+        int a1 = Position.from("a1").getIndex();
+        long occupied = 1L << Position.from("a3").getIndex() | 1L << Position.from("c3").getIndex();
+
+        // when
+        long actual = MoveTable.lineOfSight(a1, occupied);
+
+        // then
+        assertThat(actual & 1L << Position.from("a3").getIndex()).isNotZero();
+        assertThat(actual & 1L << Position.from("a4").getIndex()).isZero();
+        assertThat(actual & 1L << Position.from("c3").getIndex()).isNotZero();
+        assertThat(actual & 1L << Position.from("d4").getIndex()).isZero();
+        assertThat(actual & 1L << Position.from("h1").getIndex()).isNotZero();
+    }
+}
@@ -128,4 +128,35 @@ class PositionTest {
         assertThat(actual).isEqualTo(expected);
 
     }
+
+    @DisplayName("getIndex 와 ofIndex 는 서로의 역변환이다.")
+    @ParameterizedTest
+    @CsvSource(value = {"a1,0", "h1,7", "a2,8", "e4,28", "h8,63"})
+    void getIndex_ofIndex(String coordinate, int index) {
+        // given
+        Position position = Position.from(coordinate);
+
+        // when & then
+        assertThat(position.getIndex()).isEqualTo(index);
+        assertThat(Position.ofIndex(index)).isSameAs(position);
+    }
+
+    @DisplayName("두 위치 사이의 위치 리스트는 미리 계산되어 공유된다.")
+    @Test
+    void getPositionsSameYAxisBetween_returnsSharedList() {
+        // given
+        Position position1 = Position.of(XAxis.A, YAxis.ONE);
+        Position position2 = Position.of(XAxis.A, YAxis.FIVE);
+
+        // when
+        List<Position> actual = position1.getPositionsSameYAxisBetween(position2);
+
+        // then
+        assertThat(actual).containsExactly(
+                Position.of(XAxis.A, YAxis.TWO),
+                Position.of(XAxis.A, YAxis.THREE),
+                Position.of(XAxis.A, YAxis.FOUR)
+        );
+        assertThat(actual).isSameAs(position1.getPositionsSameYAxisBetween(position2));
+    }
 }
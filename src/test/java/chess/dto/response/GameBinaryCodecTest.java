@@ -0,0 +1,88 @@
+package chess.dto.response;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import chess.domain.board.BitBoard;
+import chess.domain.board.Board;
+import chess.domain.board.BoardCodec;
+import chess.domain.game.ChessGame;
+import chess.domain.piece.PieceColor;
+import chess.domain.piece.PieceType;
+import chess.domain.position.Position;
+import chess.dto.request.MovePieceDto;
+
+class GameBinaryCodecTest {
+
+    @DisplayName("게임은 버전, 상태, 점수와 32바이트 체스판으로 41바이트에 담긴다.")
+    @Test
+    void encode_game() {
+        // given
+        ChessGame chessGame = ChessGame.of(Board.createInitializedBoard(), PieceColor.BLACK, 7);
+
+        // when
+        ByteBuffer actual = ByteBuffer.wrap(GameBinaryCodec.encode(GameDto.from(chessGame)));
+
+        // then
+        assertThat(actual.remaining()).isEqualTo(GameBinaryCodec.GAME_SIZE).isEqualTo(41);
+        assertThat(actual.getInt()).isEqualTo(7);
+        assertThat(actual.get()).isEqualTo((byte)1);
+        assertThat(actual.getShort()).isEqualTo((short)76);
+        assertThat(actual.getShort()).isEqualTo((short)76);
+        byte[] boardState = new byte[BoardCodec.ENCODED_SIZE];
+        actual.get(boardState);
+        assertThat(boardState).isEqualTo(BoardCodec.encode(chessGame.getBoard()));
+    }
+
+    @DisplayName("수의 변경 내용은 두 칸, 움직인 기물과 잡은 기물, 상태와 점수로 12바이트에 담긴다.")
+    @Test
+    void encode_moveDelta() {
+        // given
+        ChessGame chessGame = ChessGame.of(Board.createInitializedBoard(), PieceColor.WHITE);
+        chessGame.movePiece(Position.from("b1"), Position.from("c3"));
+        chessGame.movePiece(Position.from("b7"), Position.from("b5"));
+        int undo = chessGame.movePiece(Position.from("c3"), Position.from("b5"));
+        MoveDeltaDto moveDeltaDto = MoveDeltaDto.of(1, chessGame, undo, chessGame.getResult());
+
+        // when
+        ByteBuffer actual = ByteBuffer.wrap(GameBinaryCodec.encode(moveDeltaDto));
+
+        // then
+        assertThat(actual.remaining()).isEqualTo(GameBinaryCodec.MOVE_DELTA_SIZE).isEqualTo(12);
+        assertThat(actual.getInt()).isEqualTo(3);
+        assertThat(actual.getShort()).isEqualTo(
+            ByteBuffer.wrap(GameBinaryCodec.encodeMove(Position.from("c3"), Position.from("b5"))).getShort());
+        int pieces = actual.get();
+        assertThat(pieces >> 4 & 0xF).isEqualTo(BitBoard.kindOf(PieceType.KNIGHT, PieceColor.WHITE) + 1);
+        assertThat(pieces & 0xF).isEqualTo(BitBoard.kindOf(PieceType.PAWN, PieceColor.BLACK) + 1);
+        assertThat(actual.get()).isEqualTo((byte)1);
+        assertThat(actual.getShort()).isEqualTo((short)76);
+        assertThat(actual.getShort()).isEqualTo((short)74);
+    }
+
+    @DisplayName("2바이트로 표현한 수를 다시 출발 칸과 도착 칸으로 읽는다.")
+    @Test
+    void decodeMove() {
+        // given
+        byte[] encoded = GameBinaryCodec.encodeMove(Position.from("g1"), Position.from("f3"));
+
+        // when
+        MovePieceDto actual = GameBinaryCodec.decodeMove(encoded);
+
+        // then
+        assertThat(encoded).hasSize(GameBinaryCodec.MOVE_SIZE);
+        assertThat(actual.getFrom()).isEqualTo("g1");
+        assertThat(actual.getTo()).isEqualTo("f3");
+    }
+
+    @DisplayName("길이가 맞지 않는 수 데이터는 예외를 던진다.")
+    @Test
+    void decodeMove_throwsExceptionOnInvalidLength() {
+        assertThatThrownBy(() -> GameBinaryCodec.decodeMove(new byte[3]))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,10 +1,12 @@
 package chess.service;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import chess.dao.BoardDao;
 import chess.domain.board.Board;
+import chess.domain.game.ChessGame;
 import chess.domain.piece.Piece;
 import chess.domain.piece.PieceColor;
 import chess.domain.piece.PieceType;
@@ -15,12 +17,29 @@ import chess.dto.request.UpdatePiecePositionDto;
 
 public class BoardDaoFake implements BoardDao {
     private final Map<Position, Piece> fakeBoard = new HashMap<>();
+    private final Map<Integer, Integer> fakeVersions = new HashMap<>();
+    private final GameDaoFake gameDaoFake;
+
+    public BoardDaoFake(GameDaoFake gameDaoFake) {
+        this.gameDaoFake = gameDaoFake;
+    }
 
     @Override
     public Board getBoard(int gameId) {
         return Board.from(new HashMap<>(fakeBoard));
     }
 
+    @Override
+    public ChessGame getChessGame(int gameId) {
+        int version = fakeVersions.getOrDefault(gameId, 0);
+        return ChessGame.of(getBoard(gameId), gameDaoFake.getGameTurn(gameId), version);
+    }
+
+    @Override
+    public int getVersion(int gameId) {
+        return fakeVersions.getOrDefault(gameId, 0);
+    }
+
     @Override
     public void createPiece(CreatePieceDto createPieceDto) {
         Position position = Position.of(createPieceDto.getXAxisValueAsString(), createPieceDto.getYAxisValueAsString());
@@ -31,6 +50,11 @@ public class BoardDaoFake implements BoardDao {
         fakeBoard.put(position, piece);
     }
 
+    @Override
+    public void createBoards(List<Integer> gameIds, Board board) {
+        fakeBoard.putAll(board.getValue());
+    }
+
     @Override
     public void deletePiece(DeletePieceDto deletePieceDto) {
         Position position = Position.of(deletePieceDto.getXAxisValueAsString(), deletePieceDto.getYAxisValueAsString());
@@ -48,6 +72,23 @@ public class BoardDaoFake implements BoardDao {
         fakeBoard.put(to, fakeBoard.remove(from));
     }
 
+    @Override
+    public boolean movePiece(UpdatePiecePositionDto updatePiecePositionDto, ChessGame chessGame) {
+        int gameId = updatePiecePositionDto.getGameId();
+        if (fakeVersions.getOrDefault(gameId, 0) != chessGame.getVersion() - 1) {
+            return false;
+        }
+
+        fakeVersions.put(gameId, chessGame.getVersion());
+        updatePiecePosition(updatePiecePositionDto);
+        if (chessGame.isWhiteTurn()) {
+            gameDaoFake.updateTurnToWhite(gameId);
+            return true;
+        }
+        gameDaoFake.updateTurnToBlack(gameId);
+        return true;
+    }
+
     @Override
     public String toString() {
         return "BoardDaoFake{" +
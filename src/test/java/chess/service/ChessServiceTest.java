@@ -2,29 +2,97 @@ package chess.service;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import chess.domain.board.Board;
 import chess.domain.game.score.Score;
 import chess.domain.game.score.ScoreResult;
+import chess.domain.piece.Piece;
 import chess.domain.piece.PieceColor;
+import chess.domain.piece.PieceFactory;
 import chess.domain.position.Position;
+import chess.dto.request.InquireRoomsDto;
 import chess.dto.request.UpdatePiecePositionDto;
+import chess.dto.response.MoveDeltaDto;
 
 class ChessServiceTest {
     private static final String GAME_NAME = "test";
     private static final String GAME_PASSWORD = "testPassword";
 
     private ChessService chessService;
+    private GameCache gameCache;
+    private GameDaoFake gameDaoFake;
+    private GameEventBroker gameEventBroker;
     private int id;
 
     @BeforeEach
     void setUp() {
-        chessService = new ChessService(new GameDaoFake(), new BoardDaoFake());
+        gameDaoFake = new GameDaoFake();
+        gameCache = new GameCache(100, 60_000);
+        gameEventBroker = new GameEventBroker(new ObjectMapper(), 1, 64, 5_000);
+        chessService = new ChessService(gameDaoFake, new BoardDaoFake(gameDaoFake), gameCache,
+            new LobbyService(gameDaoFake, gameEventBroker), gameEventBroker);
         id = chessService.createGameAndGetId(GAME_NAME, GAME_PASSWORD);
     }
 
+    @DisplayName("여러 방을 한 번에 생성하면 생성된 방의 id 들을 반환한다.")
+    @Test
+    void createGamesAndGetIds() {
+        // given & when
+        List<Integer> actual = chessService.createGamesAndGetIds(GAME_NAME, GAME_PASSWORD, 3);
+
+        // then
+        assertThat(actual).hasSize(3).doesNotHaveDuplicates();
+        assertThat(chessService.getCurrentTurn(actual.get(2))).isEqualTo(PieceColor.WHITE);
+    }
+
+    @DisplayName("생성한 방은 DB를 다시 조회하지 않고 로비 목록에 나타난다.")
+    @Test
+    void inquireRooms_includesCreatedRooms() {
+        // given
+        chessService.createGamesAndGetIds(GAME_NAME, GAME_PASSWORD, 2);
+        List<Integer> actual = new ArrayList<>();
+
+        // when
+        chessService.inquireRooms(InquireRoomsDto.of(0, 10, null, null), room -> actual.add(room.getId()));
+
+        // then
+        assertThat(actual).containsExactly(id, id + 1, id + 2);
+    }
+
+    @DisplayName("기물을 이동하면 로비 목록의 차례도 바뀐다.")
+    @Test
+    void inquireRooms_reflectsTurnAfterMove() {
+        // given
+        chessService.movePiece(UpdatePiecePositionDto.of(id, Position.from("a2"), Position.from("a3")));
+        List<String> actual = new ArrayList<>();
+
+        // when
+        chessService.inquireRooms(InquireRoomsDto.of(0, 10, null, null), room -> actual.add(room.getTurn()));
+
+        // then
+        assertThat(actual).containsExactly(PieceColor.BLACK.name());
+    }
+
+    @DisplayName("한 번에 생성할 방의 수가 범위를 벗어나면 예외를 던진다.")
+    @Test
+    void createGamesAndGetIds_throwsExceptionOnInvalidCount() {
+        assertThatThrownBy(() -> chessService.createGamesAndGetIds(GAME_NAME, GAME_PASSWORD, 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("한 번에 생성할 수 있는 방의 수는 1개 이상 100개 이하입니다.");
+    }
+
     @DisplayName("기물 이동")
     @Test
     void movePiece() {
@@ -36,6 +104,100 @@ class ChessServiceTest {
         chessService.movePiece(updatePiecePositionDto);
     }
 
+    @DisplayName("기물을 이동하면 게임의 버전이 올라간다.")
+    @Test
+    void getVersion() {
+        // given
+        int before = chessService.getVersion(id);
+
+        // when
+        chessService.movePiece(UpdatePiecePositionDto.of(id, Position.from("a2"), Position.from("a3")));
+
+        // then
+        assertThat(chessService.getVersion(id)).isEqualTo(before + 1);
+    }
+
+    @DisplayName("기물 이동은 캐시에 바로 반영되어 이후 조회는 캐시에서 반환한다.")
+    @Test
+    void movePiece_writesThroughCache() {
+        // given
+        chessService.getCurrentTurn(id);
+        long missCount = gameCache.getMissCount();
+
+        // when
+        chessService.movePiece(UpdatePiecePositionDto.of(id, Position.from("a2"), Position.from("a3")));
+        PieceColor actual = chessService.getCurrentTurn(id);
+
+        // then
+        assertThat(actual).isEqualTo(PieceColor.BLACK);
+        assertThat(gameCache.getMissCount()).isEqualTo(missCount);
+    }
+
+    @DisplayName("기물 이동은 바뀐 칸과 잡은 기물, 다음 차례와 점수를 반환한다.")
+    @Test
+    void movePiece_returnsDelta() {
+        // given
+        chessService.movePiece(UpdatePiecePositionDto.of(id, Position.from("b1"), Position.from("c3")));
+        chessService.movePiece(UpdatePiecePositionDto.of(id, Position.from("b7"), Position.from("b5")));
+
+        // when
+        MoveDeltaDto actual = chessService.movePiece(
+            UpdatePiecePositionDto.of(id, Position.from("c3"), Position.from("b5")));
+
+        // then
+        assertThat(actual.getFrom()).isEqualTo("c3");
+        assertThat(actual.getTo()).isEqualTo("b5");
+        assertThat(actual.getPiece()).isEqualTo("KNIGHT_WHITE");
+        assertThat(actual.getCapturedPiece()).isEqualTo("PAWN_BLACK");
+        assertThat(actual.getTurn()).isEqualTo("BLACK");
+        assertThat(actual.getVersion()).isEqualTo(3);
+        assertThat(actual.getBlackScore()).isEqualTo(37.0);
+        assertThat(actual.isEnd()).isFalse();
+    }
+
+    @DisplayName("기물 이동은 그 게임의 구독자에게 변경 내용을 보낸다.")
+    @Test
+    void movePiece_publishesDelta() {
+        // given
+        CompletableFuture<GameEvent> published = new CompletableFuture<>();
+        gameEventBroker.subscribe(id, new GameEventSink() {
+            @Override
+            public int send(GameEvent gameEvent) {
+                published.complete(gameEvent);
+                return gameEvent.getPayloadLength();
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+
+        // when
+        chessService.movePiece(UpdatePiecePositionDto.of(id, Position.from("a2"), Position.from("a3")));
+
+        // then
+        assertThat(published.orTimeout(5, TimeUnit.SECONDS).join().getName()).isEqualTo(GameEventBroker.MOVE);
+    }
+
+    @DisplayName("여러 수를 한 번에 반영하면 실패한 수의 자리에만 예외를 담아 반환한다.")
+    @Test
+    void movePieces() {
+        // given
+        List<UpdatePiecePositionDto> updatePiecePositionDtos = List.of(
+            UpdatePiecePositionDto.of(id, Position.from("a2"), Position.from("a3")),
+            UpdatePiecePositionDto.of(id, Position.from("a3"), Position.from("a4")),
+            UpdatePiecePositionDto.of(id, Position.from("a7"), Position.from("a6")));
+
+        // when
+        List<MoveOutcome> actual = chessService.movePieces(id, updatePiecePositionDtos);
+
+        // then
+        assertThat(actual.get(0).isApplied()).isTrue();
+        assertThat(actual.get(1).getFailure()).isInstanceOf(IllegalStateException.class);
+        assertThat(actual.get(2).getMoveDelta().getTurn()).isEqualTo("WHITE");
+        assertThat(chessService.getCurrentTurn(id)).isEqualTo(PieceColor.WHITE);
+    }
+
     @DisplayName("현재 차례 색상 가져오기")
     @Test
     void getCurrentTurn() {
@@ -110,5 +272,31 @@ class ChessServiceTest {
 
         // then
         assertThat(actual).isEqualTo(PieceColor.WHITE);
+        assertThat(gameDaoFake.isFinished(id)).isTrue();
+    }
+
+    @DisplayName("스테일메이트가 되면 게임이 끝나고 승자 없이 무승부가 된다.")
+    @Test
+    void getWinColor_stalemate() {
+        // given
+        Map<Position, Piece> pieces = new HashMap<>();
+        pieces.put(Position.from("h1"), PieceFactory.createKing(PieceColor.WHITE));
+        pieces.put(Position.from("c5"), PieceFactory.createQueen(PieceColor.WHITE));
+        pieces.put(Position.from("a8"), PieceFactory.createKing(PieceColor.BLACK));
+        BoardDaoFake boardDaoFake = new BoardDaoFake(gameDaoFake);
+        int stalemateId = gameDaoFake.createGameAndGetId(GAME_NAME, GAME_PASSWORD);
+        boardDaoFake.createBoards(List.of(stalemateId), Board.from(pieces));
+        ChessService stalemateService = new ChessService(gameDaoFake, boardDaoFake, new GameCache(100, 60_000),
+            new LobbyService(gameDaoFake, gameEventBroker), gameEventBroker);
+        MoveDeltaDto moveDelta = stalemateService.movePiece(UpdatePiecePositionDto.of(stalemateId,
+            Position.from("c5"), Position.from("b6")));
+
+        // when
+        PieceColor actual = stalemateService.getWinColor(stalemateId);
+
+        // then
+        assertThat(actual).isNull();
+        assertThat(moveDelta.getResult()).isEqualTo("DRAW");
+        assertThat(gameDaoFake.isFinished(stalemateId)).isTrue();
     }
 }
@@ -0,0 +1,71 @@
+package chess.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import chess.domain.engine.SearchResult;
+import chess.domain.piece.PieceColor;
+import chess.domain.position.Position;
+import chess.dto.request.UpdatePiecePositionDto;
+
+class EngineServiceTest {
+    private static final String GAME_NAME = "test";
+    private static final String GAME_PASSWORD = "testPassword";
+
+    private static final int SEARCH_THREADS = 2;
+
+    private ChessService chessService;
+    private EngineService engineService;
+    private int id;
+
+    @BeforeEach
+    void setUp() {
+        GameDaoFake gameDaoFake = new GameDaoFake();
+        GameEventBroker gameEventBroker = new GameEventBroker(new ObjectMapper(), 1, 64, 5_000);
+        chessService = new ChessService(gameDaoFake, new BoardDaoFake(gameDaoFake), new GameCache(100, 60_000),
+            new LobbyService(gameDaoFake, gameEventBroker), gameEventBroker);
+        engineService = new EngineService(chessService, 1, SEARCH_THREADS, 1024, 100, 3);
+        id = chessService.createGameAndGetId(GAME_NAME, GAME_PASSWORD);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engineService.shutdown();
+    }
+
+    @DisplayName("사람이 기물을 이동하면 엔진이 응수하여 다시 사람의 차례가 된다.")
+    @Test
+    void movePieceAndReply() {
+        // given
+        UpdatePiecePositionDto updatePiecePositionDto = UpdatePiecePositionDto.of(id, Position.from("a2"),
+            Position.from("a3"));
+
+        // when
+        SearchResult actual = engineService.movePieceAndReply(updatePiecePositionDto).join();
+
+        // then
+        assertThat(actual.hasMove()).isTrue();
+        assertThat(actual.getDepth()).isPositive();
+        assertThat(chessService.getCurrentTurn(id)).isEqualTo(PieceColor.WHITE);
+    }
+
+    @DisplayName("탐색이 끝나면 빌려 쓴 탐색 스레드 슬롯을 모두 돌려준다.")
+    @Test
+    void movePieceAndReply_releasesSearchSlots() {
+        // given
+        UpdatePiecePositionDto updatePiecePositionDto = UpdatePiecePositionDto.of(id, Position.from("a2"),
+            Position.from("a3"));
+
+        // when
+        engineService.movePieceAndReply(updatePiecePositionDto).join();
+
+        // then
+        assertThat(engineService.getAvailableSearchSlots()).isEqualTo(SEARCH_THREADS);
+    }
+}
@@ -0,0 +1,152 @@
+package chess.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import chess.domain.board.Board;
+import chess.domain.game.ChessGame;
+import chess.domain.piece.PieceColor;
+import chess.domain.position.Position;
+
+class GameCacheTest {
+    private static final long EXPIRE_AFTER_ACCESS_MILLIS = 1_000;
+
+    private final AtomicLong ticker = new AtomicLong();
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private GameCache gameCache;
+
+    @BeforeEach
+    void setUp() {
+        gameCache = new GameCache(2, EXPIRE_AFTER_ACCESS_MILLIS, ticker::get);
+    }
+
+    private ChessGame load(int gameId) {
+        loadCount.incrementAndGet();
+        return ChessGame.of(Board.createInitializedBoard(), PieceColor.WHITE);
+    }
+
+    @DisplayName("두 번째 조회부터는 불러오지 않고 캐시에서 반환한다.")
+    @Test
+    void get_hit() {
+        // given
+        gameCache.get(1, this::load);
+
+        // when
+        gameCache.get(1, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(gameCache.getHitCount()).isEqualTo(1);
+        assertThat(gameCache.getMissCount()).isEqualTo(1);
+    }
+
+    @DisplayName("getVersion 은 캐시된 게임이 있다면 불러오지 않고 그 버전을 반환한다.")
+    @Test
+    void getVersion_hit() {
+        // given
+        gameCache.put(1, ChessGame.of(Board.createInitializedBoard(), PieceColor.BLACK, 3));
+
+        // when
+        int actual = gameCache.getVersion(1, gameId -> {
+            throw new AssertionError();
+        });
+
+        // then
+        assertThat(actual).isEqualTo(3);
+    }
+
+    @DisplayName("getVersion 은 캐시에 없는 게임의 버전만 조회하고 게임을 캐시에 담지 않는다.")
+    @Test
+    void getVersion_miss() {
+        // when
+        int actual = gameCache.getVersion(1, gameId -> 5);
+
+        // then
+        assertThat(actual).isEqualTo(5);
+        assertThat(gameCache.size()).isZero();
+    }
+
+    @DisplayName("반환한 게임을 변경해도 캐시된 게임은 바뀌지 않는다.")
+    @Test
+    void get_returnsCopy() {
+        // given
+        ChessGame chessGame = gameCache.get(1, this::load);
+
+        // when
+        chessGame.movePiece(Position.from("a2"), Position.from("a3"));
+
+        // then
+        ChessGame actual = gameCache.get(1, this::load);
+        assertThat(actual.getCurrentTurn()).isEqualTo(PieceColor.WHITE);
+        assertThat(actual.getVersion()).isZero();
+    }
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 조회되지 않은 게임을 내보낸다.")
+    @Test
+    void put_evictsLeastRecentlyUsed() {
+        // given
+        gameCache.get(1, this::load);
+        gameCache.get(2, this::load);
+        gameCache.get(1, this::load);
+
+        // when
+        gameCache.get(3, this::load);
+
+        // then
+        gameCache.get(1, this::load);
+        assertThat(loadCount.get()).isEqualTo(3);
+        assertThat(gameCache.size()).isEqualTo(2);
+        assertThat(gameCache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @DisplayName("일정 시간 조회되지 않은 게임은 다시 불러온다.")
+    @Test
+    void get_expiresIdleGame() {
+        // given
+        gameCache.get(1, this::load);
+
+        // when
+        ticker.addAndGet(TimeUnit.MILLISECONDS.toNanos(EXPIRE_AFTER_ACCESS_MILLIS));
+        gameCache.get(1, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(gameCache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @DisplayName("캐시된 게임보다 오래된 버전은 저장하지 않는다.")
+    @Test
+    void put_ignoresOlderVersion() {
+        // given
+        ChessGame moved = ChessGame.of(Board.createInitializedBoard(), PieceColor.WHITE);
+        moved.movePiece(Position.from("a2"), Position.from("a3"));
+        gameCache.put(1, moved);
+
+        // when
+        gameCache.put(1, ChessGame.of(Board.createInitializedBoard(), PieceColor.WHITE));
+
+        // then
+        assertThat(gameCache.get(1, this::load).getVersion()).isEqualTo(1);
+    }
+
+    @DisplayName("invalidate 한 게임은 다시 불러온다.")
+    @Test
+    void invalidate() {
+        // given
+        gameCache.get(1, this::load);
+
+        // when
+        gameCache.invalidate(1);
+        gameCache.get(1, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+}
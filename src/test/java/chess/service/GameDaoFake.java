@@ -1,15 +1,20 @@
 package chess.service;
 
 import java.util.HashMap;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import chess.dao.GameDao;
+import chess.domain.game.GameStatus;
 import chess.domain.piece.PieceColor;
+import chess.dto.request.InquireRoomsDto;
 import chess.entity.Room;
 
 public class GameDaoFake implements GameDao {
     private final Map<Integer, PieceColor> fakeGame = new HashMap<>();
+    private final Set<Integer> finishedGames = new HashSet<>();
 
     @Override
     public PieceColor getGameTurn(int gameId) {
@@ -39,8 +44,29 @@ public class GameDaoFake implements GameDao {
     }
 
     @Override
-    public List<Room> inquireAllRooms() {
-        return null;
+    public void finishGame(int gameId) {
+        finishedGames.add(gameId);
+    }
+
+    public boolean isFinished(int gameId) {
+        return finishedGames.contains(gameId);
+    }
+
+    @Override
+    public void inquireRooms(InquireRoomsDto inquireRoomsDto, Consumer<Room> roomConsumer) {
+        fakeGame.keySet().stream()
+            .filter(id -> id > inquireRoomsDto.getAfter())
+            .filter(id -> inquireRoomsDto.getStatus().map(status -> status == statusOf(id)).orElse(true))
+            .sorted()
+            .limit(inquireRoomsDto.getLimit())
+            .forEach(id -> roomConsumer.accept(new Room(id, fakeGame.get(id).name(), "", statusOf(id).name())));
+    }
+
+    private GameStatus statusOf(int gameId) {
+        if (finishedGames.contains(gameId)) {
+            return GameStatus.FINISHED;
+        }
+        return GameStatus.PLAYING;
     }
 
     @Override
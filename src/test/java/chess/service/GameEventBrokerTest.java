@@ -0,0 +1,230 @@
+package chess.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import chess.domain.board.Board;
+import chess.domain.game.ChessGame;
+import chess.domain.piece.PieceColor;
+import chess.domain.position.Position;
+import chess.dto.response.GameBinaryCodec;
+import chess.dto.response.MoveDeltaDto;
+
+class GameEventBrokerTest {
+    private static final int BUFFER_SIZE = 2;
+    private static final long TIMEOUT_SECONDS = 5;
+    private static final long SEND_TIME_LIMIT_MILLIS = 1_000;
+
+    private GameEventBroker gameEventBroker;
+
+    @BeforeEach
+    void setUp() {
+        gameEventBroker = new GameEventBroker(new ObjectMapper(), 1, BUFFER_SIZE, SEND_TIME_LIMIT_MILLIS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gameEventBroker.shutdown();
+    }
+
+    private MoveDeltaDto delta(int gameId) {
+        ChessGame chessGame = ChessGame.of(Board.createInitializedBoard(), PieceColor.WHITE);
+        int undo = chessGame.movePiece(Position.from("a2"), Position.from("a3"));
+        return MoveDeltaDto.of(gameId, chessGame, undo, chessGame.getResult());
+    }
+
+    @DisplayName("수의 변경 내용은 같은 게임을 구독한 연결에만 전달된다.")
+    @Test
+    void publish() throws InterruptedException {
+        // given
+        RecordingSink sink = new RecordingSink(1);
+        RecordingSink otherGameSink = new RecordingSink(1);
+        gameEventBroker.subscribe(1, sink);
+        gameEventBroker.subscribe(2, otherGameSink);
+
+        // when
+        gameEventBroker.publish(delta(1));
+
+        // then
+        assertThat(sink.await()).isTrue();
+        assertThat(sink.gameEvents).extracting(GameEvent::getName).containsExactly(GameEventBroker.MOVE);
+        assertThat(otherGameSink.gameEvents).isEmpty();
+    }
+
+    @DisplayName("한 번 직렬화한 같은 이벤트를 모든 구독자에게 보내고 보낸 메시지 수와 바이트 수를 센다.")
+    @Test
+    void publish_serializesOnce() throws InterruptedException {
+        // given
+        RecordingSink first = new RecordingSink(1);
+        RecordingSink second = new RecordingSink(1);
+        gameEventBroker.subscribe(1, first);
+        gameEventBroker.subscribe(1, second);
+
+        // when
+        gameEventBroker.publish(delta(1));
+
+        // then
+        assertThat(first.await()).isTrue();
+        assertThat(second.await()).isTrue();
+        GameEvent actual = first.gameEvents.get(0);
+        assertThat(second.gameEvents.get(0)).isSameAs(actual);
+        assertThat(actual.getPayload().isReadOnly()).isTrue();
+        assertThat(actual.getCompactPayload().get()).isEqualTo((byte)GameEventBroker.MOVE_CODE);
+        assertThat(actual.getCompactPayloadLength()).isEqualTo(1 + GameBinaryCodec.MOVE_DELTA_SIZE);
+        assertThat(gameEventBroker.getPublishedCount()).isEqualTo(1);
+        awaitCondition(() -> gameEventBroker.getSentByteCount() == 2L * actual.getPayloadLength());
+        assertThat(gameEventBroker.getSentMessageCount()).isEqualTo(2);
+        assertThat(gameEventBroker.getSentByteCount()).isEqualTo(2L * actual.getPayloadLength());
+    }
+
+    @DisplayName("버퍼가 가득 찬 느린 연결은 쌓인 이벤트를 버리고 resync 를 받는다.")
+    @Test
+    void publish_fallsBackToResyncOnSlowSubscriber() throws InterruptedException {
+        // given
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSink sink = new RecordingSink(3) {
+            @Override
+            public int send(GameEvent gameEvent) {
+                sending.countDown();
+                awaitQuietly(release);
+                return super.send(gameEvent);
+            }
+        };
+        GameEventBroker.Subscription subscription = gameEventBroker.subscribe(1, sink);
+        gameEventBroker.publish(delta(1));
+        sending.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // when
+        for (int i = 0; i < BUFFER_SIZE + 1; i++) {
+            gameEventBroker.publish(delta(1));
+        }
+        release.countDown();
+
+        // then
+        assertThat(sink.await()).isTrue();
+        assertThat(sink.gameEvents).extracting(GameEvent::getName)
+            .containsExactly(GameEventBroker.MOVE, GameEventBroker.RESYNC, GameEventBroker.MOVE);
+        assertThat(subscription.getDroppedCount()).isEqualTo(BUFFER_SIZE);
+        assertThat(gameEventBroker.getDroppedCount()).isEqualTo(BUFFER_SIZE);
+    }
+
+    @DisplayName("전송이 멈춘 연결은 제한 시간이 지나면 닫히고 다른 게임의 구독자는 계속 받는다.")
+    @Test
+    void publish_stalledSinkDoesNotBlockOtherGames() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        RecordingSink stalled = new RecordingSink(1) {
+            @Override
+            public int send(GameEvent gameEvent) {
+                awaitQuietly(release);
+                return super.send(gameEvent);
+            }
+
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        };
+        RecordingSink other = new RecordingSink(1);
+        gameEventBroker.subscribe(1, stalled);
+        gameEventBroker.subscribe(2, other);
+        gameEventBroker.publish(delta(1));
+
+        try {
+            // when
+            gameEventBroker.publish(delta(2));
+
+            // then
+            assertThat(other.await()).isTrue();
+            assertThat(closed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+            assertThat(gameEventBroker.getSubscriberCount(1)).isZero();
+            assertThat(gameEventBroker.getTimedOutCount()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @DisplayName("구독을 해지하면 그 게임의 구독 목록에서 빠진다.")
+    @Test
+    void unsubscribe() {
+        // given
+        GameEventBroker.Subscription subscription = gameEventBroker.subscribe(1, new RecordingSink(0));
+
+        // when
+        gameEventBroker.unsubscribe(subscription);
+
+        // then
+        assertThat(gameEventBroker.getSubscriberCount(1)).isZero();
+        assertThat(gameEventBroker.getSubscriberCount()).isZero();
+    }
+
+    @DisplayName("게임을 닫으면 그 게임의 모든 연결을 닫는다.")
+    @Test
+    void closeGame() {
+        // given
+        RecordingSink sink = new RecordingSink(0);
+        gameEventBroker.subscribe(1, sink);
+
+        // when
+        gameEventBroker.closeGame(1);
+
+        // then
+        assertThat(sink.isClosed).isTrue();
+        assertThat(gameEventBroker.getSubscriberCount(1)).isZero();
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadlineNanos) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class RecordingSink implements GameEventSink {
+        private final List<GameEvent> gameEvents = new CopyOnWriteArrayList<>();
+        private final CountDownLatch received;
+        private volatile boolean isClosed;
+
+        private RecordingSink(int expectedCount) {
+            this.received = new CountDownLatch(expectedCount);
+        }
+
+        @Override
+        public int send(GameEvent gameEvent) {
+            gameEvents.add(gameEvent);
+            received.countDown();
+            return gameEvent.getPayloadLength();
+        }
+
+        private boolean await() throws InterruptedException {
+            return received.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
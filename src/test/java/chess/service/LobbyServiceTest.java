@@ -0,0 +1,182 @@
+package chess.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import chess.domain.board.Board;
+import chess.domain.game.ChessGame;
+import chess.domain.game.GameStatus;
+import chess.domain.piece.PieceColor;
+import chess.domain.position.Position;
+import chess.dto.request.InquireRoomsDto;
+import chess.dto.response.MoveDeltaDto;
+import chess.entity.Room;
+
+class LobbyServiceTest {
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private GameDaoFake gameDaoFake;
+    private GameEventBroker gameEventBroker;
+    private LobbyService lobbyService;
+
+    @BeforeEach
+    void setUp() {
+        gameDaoFake = new GameDaoFake();
+        gameEventBroker = new GameEventBroker(new ObjectMapper(), 1, 64, 5_000);
+        lobbyService = new LobbyService(gameDaoFake, gameEventBroker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gameEventBroker.shutdown();
+    }
+
+    private Room room(int id, String name) {
+        return new Room(id, "WHITE", name, GameStatus.PLAYING.name());
+    }
+
+    @DisplayName("load 는 DB의 방 목록을 페이지 단위로 모두 불러온다.")
+    @Test
+    void load() {
+        // given
+        for (int i = 0; i < InquireRoomsDto.MAX_LIMIT + 1; i++) {
+            gameDaoFake.createGameAndGetId("test", "password");
+        }
+
+        // when
+        lobbyService.load();
+
+        // then
+        assertThat(lobbyService.getRoomCount()).isEqualTo(InquireRoomsDto.MAX_LIMIT + 1);
+    }
+
+    @DisplayName("생성된 방은 스냅샷에 id 순서로 추가되고 after 이후부터 조회된다.")
+    @Test
+    void roomsCreated() {
+        // given
+        lobbyService.roomsCreated(List.of(room(3, "c"), room(1, "a")));
+
+        // when
+        lobbyService.roomsCreated(List.of(room(2, "b")));
+
+        // then
+        List<Room> actual = lobbyService.inquireRooms(InquireRoomsDto.of(1, 10, null, null));
+        assertThat(actual).extracting(Room::getId).containsExactly(2, 3);
+    }
+
+    @DisplayName("삭제된 방은 스냅샷에서 빠진다.")
+    @Test
+    void roomDeleted() {
+        // given
+        lobbyService.roomsCreated(List.of(room(1, "a"), room(2, "b"), room(3, "c")));
+
+        // when
+        lobbyService.roomDeleted(2);
+
+        // then
+        List<Room> actual = lobbyService.inquireRooms(InquireRoomsDto.of(0, 10, null, null));
+        assertThat(actual).extracting(Room::getId).containsExactly(1, 3);
+    }
+
+    @DisplayName("끝난 방은 상태로 걸러서 조회할 수 있다.")
+    @Test
+    void roomFinished() {
+        // given
+        lobbyService.roomsCreated(List.of(room(1, "a"), room(2, "b")));
+
+        // when
+        lobbyService.roomFinished(2);
+
+        // then
+        List<Room> actual = lobbyService.inquireRooms(InquireRoomsDto.of(0, 10, GameStatus.FINISHED, null));
+        assertThat(actual).extracting(Room::getId).containsExactly(2);
+    }
+
+    @DisplayName("이름 접두사와 limit 으로 조회할 수 있다.")
+    @Test
+    void inquireRooms_byNamePrefix() {
+        // given
+        lobbyService.roomsCreated(List.of(room(1, "abc"), room(2, "xyz"), room(3, "abd"), room(4, "abe")));
+
+        // when
+        List<Room> actual = lobbyService.inquireRooms(InquireRoomsDto.of(0, 2, null, "ab"));
+
+        // then
+        assertThat(actual).extracting(Room::getId).containsExactly(1, 3);
+    }
+
+    @DisplayName("조회 결과는 이후의 변경에 영향을 받지 않는다.")
+    @Test
+    void inquireRooms_isSnapshot() {
+        // given
+        lobbyService.roomsCreated(List.of(room(1, "a")));
+        List<Room> actual = lobbyService.inquireRooms(InquireRoomsDto.of(0, 10, null, null));
+
+        // when
+        lobbyService.roomDeleted(1);
+
+        // then
+        assertThat(actual).extracting(Room::getId).containsExactly(1);
+    }
+
+    @DisplayName("수를 두면 스냅샷의 차례가 바뀌고 늦게 도착한 이전 수는 무시한다.")
+    @Test
+    void turnChanged() {
+        // given
+        lobbyService.roomsCreated(List.of(room(1, "a")));
+        ChessGame chessGame = ChessGame.of(Board.createInitializedBoard(), PieceColor.WHITE);
+        int undo = chessGame.movePiece(Position.from("a2"), Position.from("a3"));
+        MoveDeltaDto whiteMove = MoveDeltaDto.of(1, chessGame, undo, chessGame.getResult());
+        undo = chessGame.movePiece(Position.from("a7"), Position.from("a6"));
+        MoveDeltaDto blackMove = MoveDeltaDto.of(1, chessGame, undo, chessGame.getResult());
+
+        // when
+        lobbyService.turnChanged(blackMove);
+        lobbyService.turnChanged(whiteMove);
+
+        // then
+        List<Room> actual = lobbyService.inquireRooms(InquireRoomsDto.of(0, 10, null, null));
+        assertThat(actual).extracting(Room::getTurn).containsExactly(PieceColor.WHITE.name());
+    }
+
+    @DisplayName("방 변경 이벤트는 로비 구독자의 버퍼를 거쳐 전달된다.")
+    @Test
+    void roomsCreated_publishesToLobbySubscribers() throws InterruptedException {
+        // given
+        List<GameEvent> gameEvents = new CopyOnWriteArrayList<>();
+        CountDownLatch received = new CountDownLatch(2);
+        gameEventBroker.subscribe(LobbyService.LOBBY_CHANNEL_ID, new GameEventSink() {
+            @Override
+            public int send(GameEvent gameEvent) {
+                gameEvents.add(gameEvent);
+                received.countDown();
+                return gameEvent.getPayloadLength();
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+
+        // when
+        lobbyService.roomsCreated(List.of(room(1, "a")));
+        lobbyService.roomDeleted(1);
+
+        // then
+        assertThat(received.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(gameEvents).extracting(GameEvent::getName)
+            .containsExactly(LobbyService.ROOM_CREATED, LobbyService.ROOM_DELETED);
+        assertThat(lobbyService.getSubscriberCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,92 @@
+package chess.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import chess.domain.piece.PieceColor;
+import chess.domain.position.Position;
+import chess.dto.request.UpdatePiecePositionDto;
+import chess.dto.response.MoveDeltaDto;
+
+class MoveDispatcherTest {
+    private static final String GAME_NAME = "test";
+    private static final String GAME_PASSWORD = "testPassword";
+
+    private ChessService chessService;
+    private MoveDispatcher moveDispatcher;
+    private int id;
+
+    @BeforeEach
+    void setUp() {
+        GameDaoFake gameDaoFake = new GameDaoFake();
+        GameEventBroker gameEventBroker = new GameEventBroker(new ObjectMapper(), 1, 64, 5_000);
+        chessService = new ChessService(gameDaoFake, new BoardDaoFake(gameDaoFake), new GameCache(100, 60_000),
+            new LobbyService(gameDaoFake, gameEventBroker), gameEventBroker);
+        moveDispatcher = new MoveDispatcher(chessService, 2, 4);
+        id = chessService.createGameAndGetId(GAME_NAME, GAME_PASSWORD);
+    }
+
+    @AfterEach
+    void tearDown() {
+        moveDispatcher.shutdown();
+    }
+
+    private CompletableFuture<MoveDeltaDto> submit(String from, String to) {
+        return moveDispatcher.submit(UpdatePiecePositionDto.of(id, Position.from(from), Position.from(to)));
+    }
+
+    @DisplayName("제출한 수가 반영되면 future 가 그 수의 변경 내용으로 완료된다.")
+    @Test
+    void submit() {
+        // given & when
+        MoveDeltaDto actual = submit("a2", "a3").join();
+
+        // then
+        assertThat(actual.getTo()).isEqualTo("a3");
+        assertThat(chessService.getCurrentTurn(id)).isEqualTo(PieceColor.BLACK);
+    }
+
+    @DisplayName("한 게임에 연달아 제출한 수들은 제출한 순서대로 반영된다.")
+    @Test
+    void submit_appliesInOrder() {
+        // given
+        submit("b1", "c3");
+        submit("a7", "a6");
+        submit("c3", "b5");
+        submit("a6", "a5");
+        submit("b5", "c7");
+        submit("a5", "a4");
+
+        // when
+        submit("c7", "e8").join();
+
+        // then
+        assertThat(chessService.getWinColor(id)).isEqualTo(PieceColor.WHITE);
+    }
+
+    @DisplayName("잘못된 수는 그 수의 future 만 예외로 완료되고 다음 수는 반영된다.")
+    @Test
+    void submit_failsOnlyInvalidMove() {
+        // given
+        CompletableFuture<MoveDeltaDto> invalid = submit("a7", "a6");
+        CompletableFuture<MoveDeltaDto> valid = submit("a2", "a3");
+
+        // when
+        valid.join();
+
+        // then
+        assertThatThrownBy(invalid::join)
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(chessService.getCurrentTurn(id)).isEqualTo(PieceColor.BLACK);
+    }
+}